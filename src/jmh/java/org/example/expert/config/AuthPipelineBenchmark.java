@@ -0,0 +1,142 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.FilterChain;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.Base64;
+
+/**
+ * 인증 파이프라인에서 요청마다 실행되는 구간의 처리량과 할당량(gc 프로파일러)을 측정합니다.
+ */
+public class AuthPipelineBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class JwtState {
+
+        JwtUtil jwtUtil;
+        // claims 캐시를 끈(max-size 0) 인스턴스. 매번 HMAC 검증과 JSON 파싱을 거칩니다.
+        JwtUtil uncachedJwtUtil;
+        String bearerToken;
+        String token;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            jwtUtil = jwtUtil(10_000);
+            uncachedJwtUtil = jwtUtil(0);
+            bearerToken = jwtUtil.createToken(1L, "user@example.com", UserRole.USER);
+            token = jwtUtil.substringToken(bearerToken);
+        }
+
+        private static JwtUtil jwtUtil(int claimsCacheMaxSize) {
+            JwtUtil jwtUtil = new JwtUtil();
+            ReflectionTestUtils.setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString(new byte[32]));
+            ReflectionTestUtils.setField(jwtUtil, "claimsCacheMaxSize", claimsCacheMaxSize);
+            jwtUtil.init();
+            return jwtUtil;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class FilterState {
+
+        JwtFilter jwtFilter;
+        MockHttpServletRequest request;
+        MockHttpServletResponse response;
+        FilterChain chain;
+
+        @Setup(Level.Trial)
+        public void setUp(JwtState jwtState) {
+            jwtFilter = new JwtFilter(jwtState.jwtUtil);
+            request = new MockHttpServletRequest("GET", "/todos");
+            request.addHeader("Authorization", jwtState.bearerToken);
+            response = new MockHttpServletResponse();
+            chain = (req, res) -> { };
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ResolverState {
+
+        AuthUserArgumentResolver resolver;
+        ServletWebRequest webRequest;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            resolver = new AuthUserArgumentResolver();
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos");
+            request.setAttribute("userId", 1L);
+            request.setAttribute("email", "user@example.com");
+            request.setAttribute("userRole", "USER");
+            webRequest = new ServletWebRequest(request);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class PasswordState {
+
+        // 운영 cost 를 올렸을 때 로그인 한 번에 드는 비용을 비교합니다.
+        @Param({"4", "10", "12"})
+        int cost;
+
+        PasswordEncoder passwordEncoder;
+        String rawPassword;
+        String encodedPassword;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            passwordEncoder = new PasswordEncoder();
+            ReflectionTestUtils.setField(passwordEncoder, "cost", cost);
+            rawPassword = "Password1234";
+            encodedPassword = passwordEncoder.encode(rawPassword);
+        }
+    }
+
+    @Benchmark
+    public void jwtFilterDoFilter(FilterState state) throws Exception {
+        state.jwtFilter.doFilter(state.request, state.response, state.chain);
+    }
+
+    @Benchmark
+    public String jwtCreateToken(JwtState state) {
+        return state.jwtUtil.createToken(1L, "user@example.com", UserRole.USER);
+    }
+
+    // 같은 토큰을 반복하므로 첫 호출 뒤로는 claims 캐시 적중 비용입니다.
+    @Benchmark
+    public Claims jwtExtractClaims(JwtState state) {
+        return state.jwtUtil.extractClaims(state.token);
+    }
+
+    // 캐시 없이 HMAC 검증 + 파싱을 하는 비용입니다. (처음 보는 토큰, 캐시가 가득 찬 경우)
+    @Benchmark
+    public Claims jwtExtractClaimsUncached(JwtState state) {
+        return state.uncachedJwtUtil.extractClaims(state.token);
+    }
+
+    @Benchmark
+    public AuthUser resolveAuthUser(ResolverState state) {
+        return (AuthUser) state.resolver.resolveArgument(null, null, state.webRequest, null);
+    }
+
+    @Benchmark
+    public UserRole userRoleOf() {
+        return UserRole.of("USER");
+    }
+
+    @Benchmark
+    public boolean passwordMatches(PasswordState state) {
+        return state.passwordEncoder.matches(state.rawPassword, state.encodedPassword);
+    }
+}
@@ -0,0 +1,176 @@
+package org.example.expert.domain.todo.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.example.expert.ExpertApplication;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * 내장 Tomcat 을 띄워 GET /todos, POST /todos 의 초당 요청 수를 플랫폼 스레드/가상 스레드 모드로 비교합니다.
+ * 클라이언트 스레드(@Threads, -Pjmh.threads)가 쉬지 않고 요청을 보내는 closed-loop 부하이므로, 스레드를 늘려도
+ * success 처리량이 더 오르지 않고 failure 가 생기기 시작하는 지점이 그 모드의 최대 지속 처리량입니다.
+ * 스레드 모드 자체의 한계를 재도록 동시 처리 한도(ConcurrencyLimitFilter)는 클라이언트 스레드 수보다 크게 고정하고,
+ * 회원가입/로그인 속도 제한(AuthRateLimiter)도 넉넉히 풀어 둡니다.
+ * 가상 스레드 모드는 Java 21 이상에서만 적용되며, 측정 중 캐리어 스레드 고정(pinning)이 생기면 스택을 출력합니다.
+ */
+@State(Scope.Benchmark)
+@Threads(200)
+@Fork(jvmArgsAppend = "-Djdk.tracePinnedThreads=short")
+public class TodoHttpLoadBenchmark {
+
+    private static final int SEED_TODOS = 100;
+    // -Pjmh.threads 로 스레드를 늘려도 503 이 섞이지 않도록 충분히 크게 둡니다.
+    private static final int CONCURRENCY_LIMIT = 10_000;
+
+    @Param({"platform", "virtual"})
+    String threads;
+
+    @Param({"jdbc:h2:mem:http-load-benchmark"})
+    String url;
+
+    @Param({"sa"})
+    String username;
+
+    @Param({""})
+    String password;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private HttpClient httpClient;
+    private URI todosUri;
+    private URI todosPageUri;
+    private String bearerToken;
+    private long lastSeedTodoId;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Responses {
+
+        public long success;
+        public long failure;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            success = 0;
+            failure = 0;
+        }
+
+        void record(int status) {
+            if (status / 100 == 2) {
+                success++;
+            } else {
+                failure++;
+            }
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(ExpertApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .properties(
+                        "server.port=0",
+                        "jwt.secret.key=" + Base64.getEncoder().encodeToString(new byte[32]),
+                        "weather.api.url=http://127.0.0.1:9",
+                        "spring.datasource.url=" + url,
+                        "spring.datasource.username=" + username,
+                        "spring.datasource.password=" + password,
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "access-log.path=build/results/jmh/access.log",
+                        "concurrency-limit.initial-limit=" + CONCURRENCY_LIMIT,
+                        "concurrency-limit.min-limit=" + CONCURRENCY_LIMIT,
+                        "concurrency-limit.max-limit=" + CONCURRENCY_LIMIT,
+                        "auth.rate-limit.ip.capacity=1000000",
+                        "auth.rate-limit.email.capacity=1000000",
+                        "logging.level.root=WARN",
+                        "logging.level.org.example.expert.client=ERROR"
+                );
+        if (threads.equals("virtual")) {
+            builder.profiles("virtual");
+        }
+        context = builder.run();
+        entityManager = context.getBean(EntityManager.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        String baseUri = "http://127.0.0.1:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+        todosUri = URI.create(baseUri + "/todos");
+        todosPageUri = URI.create(baseUri + "/todos?page=1&size=10");
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+        HttpResponse<String> signup = httpClient.send(HttpRequest.newBuilder(URI.create(baseUri + "/auth/signup"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(Map.of(
+                        "email", "load@example.com", "password", "Password1234", "userRole", "USER"))))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        bearerToken = objectMapper.readTree(signup.body()).get("bearerToken").asText();
+
+        for (int i = 0; i < SEED_TODOS; i++) {
+            send(saveTodoRequest());
+        }
+        lastSeedTodoId = entityManager.createQuery("SELECT MAX(t.id) FROM Todo t", Long.class).getSingleResult();
+    }
+
+    // POST 로 쌓인 일정 때문에 반복마다 목록 조회 비용이 달라지지 않도록 시드 데이터만 남깁니다.
+    @Setup(Level.Iteration)
+    public void clearSavedTodos() {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM Manager m WHERE m.todo.id > :id").setParameter("id", lastSeedTodoId).executeUpdate();
+            entityManager.createQuery("DELETE FROM Todo t WHERE t.id > :id").setParameter("id", lastSeedTodoId).executeUpdate();
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void getTodos(Responses responses) throws Exception {
+        responses.record(send(HttpRequest.newBuilder(todosPageUri)
+                .header("Authorization", bearerToken)
+                .GET()
+                .build()));
+    }
+
+    @Benchmark
+    public void saveTodo(Responses responses) throws Exception {
+        responses.record(send(saveTodoRequest()));
+    }
+
+    private HttpRequest saveTodoRequest() {
+        return HttpRequest.newBuilder(todosUri)
+                .header("Authorization", bearerToken)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"title\":\"title\",\"contents\":\"contents\"}"))
+                .build();
+    }
+
+    private int send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
@@ -0,0 +1,99 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.ExpertApplication;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Base64;
+
+/**
+ * 한 트랜잭션에서 일정을 여러 건 저장할 때의 초당 저장 건수를 측정합니다. 일정 하나당 작성자 Manager 까지 두 행이 들어갑니다.
+ * 기본은 내장 H2 이며, MySQL 은 -Pjmh.url / -Pjmh.username / -Pjmh.password 로 접속 정보를 넘겨 측정합니다.
+ */
+@State(Scope.Benchmark)
+public class TodoInsertBenchmark {
+
+    private static final int TODOS_PER_TRANSACTION = 100;
+
+    // 0 이면 JDBC 배치를 끄고 한 건씩 실행합니다.
+    @Param({"0", "50"})
+    int batchSize;
+
+    @Param({"jdbc:h2:mem:insert-benchmark"})
+    String url;
+
+    @Param({"sa"})
+    String username;
+
+    @Param({""})
+    String password;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private User user;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ExpertApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "jwt.secret.key=" + Base64.getEncoder().encodeToString(new byte[32]),
+                        "weather.api.url=http://127.0.0.1:9",
+                        "spring.datasource.url=" + url,
+                        "spring.datasource.username=" + username,
+                        "spring.datasource.password=" + password,
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                        "logging.level.root=WARN",
+                        "logging.level.org.example.expert.client=ERROR"
+                )
+                .run();
+        entityManager = context.getBean(EntityManager.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        user = context.getBean(UserRepository.class).save(new User("user@example.com", "password", UserRole.USER));
+    }
+
+    // 쌓인 행 때문에 측정 구간마다 힙/인덱스 크기가 달라지지 않도록 반복마다 비웁니다.
+    @Setup(Level.Iteration)
+    public void clearTodos() {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM Manager").executeUpdate();
+            entityManager.createQuery("DELETE FROM Todo").executeUpdate();
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TODOS_PER_TRANSACTION)
+    public void insertTodos() {
+        transactionTemplate.executeWithoutResult(status -> {
+            User author = entityManager.getReference(User.class, user.getId());
+            for (int i = 0; i < TODOS_PER_TRANSACTION; i++) {
+                entityManager.persist(new Todo("title" + i, "contents" + i, "Sunny", author));
+            }
+            entityManager.flush();
+            entityManager.clear();
+        });
+    }
+}
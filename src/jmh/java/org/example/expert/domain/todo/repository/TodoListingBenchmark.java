@@ -0,0 +1,101 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.ExpertApplication;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 일정 목록 한 페이지를 엔티티로 읽어 DTO 로 옮기는 방식과 DTO 프로젝션으로 바로 읽는 방식을 비교합니다.
+ * 내장 H2 로 애플리케이션 컨텍스트를 띄우며, gc 프로파일러로 페이지당 할당량을 함께 확인합니다.
+ */
+@State(Scope.Benchmark)
+public class TodoListingBenchmark {
+
+    // 카운터(TodoCounter)는 LAZY 라 fetch join 하지 않으면 일정마다 select 가 한 번 더 나가므로, 프로젝션과 같은 조인으로 맞춥니다.
+    private static final String ENTITY_QUERY = "SELECT t FROM Todo t JOIN FETCH t.user LEFT JOIN FETCH t.counter " +
+            "ORDER BY t.modifiedAt DESC, t.id DESC";
+
+    @Param({"10", "100"})
+    int size;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private TodoRepository todoRepository;
+    private TransactionTemplate readOnlyTransaction;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ExpertApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "jwt.secret.key=" + Base64.getEncoder().encodeToString(new byte[32]),
+                        "weather.api.url=http://127.0.0.1:9",
+                        "logging.level.root=WARN",
+                        "logging.level.org.example.expert.client=ERROR"
+                )
+                .run();
+        entityManager = context.getBean(EntityManager.class);
+        todoRepository = context.getBean(TodoRepository.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        User user = context.getBean(UserRepository.class).save(new User("user@example.com", "password", UserRole.USER));
+        List<Todo> todos = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            todos.add(new Todo("title" + i, "contents" + i, "Sunny", user));
+        }
+        todoRepository.saveAll(todos);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TodoResponse> entityThenMap() {
+        return readOnlyTransaction.execute(status -> entityManager.createQuery(ENTITY_QUERY, Todo.class)
+                .setMaxResults(size)
+                .getResultStream()
+                .map(todo -> new TodoResponse(
+                        todo.getId(),
+                        todo.getTitle(),
+                        todo.getContents(),
+                        todo.getWeather(),
+                        new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
+                        todo.getCommentCount(),
+                        todo.getManagerCount(),
+                        todo.getCreatedAt(),
+                        todo.getModifiedAt()
+                ))
+                .toList());
+    }
+
+    @Benchmark
+    public List<TodoResponse> projection() {
+        return readOnlyTransaction.execute(status ->
+                todoRepository.findFirstSliceByOrderByModifiedAtDesc(PageRequest.of(0, size)).getContent());
+    }
+}
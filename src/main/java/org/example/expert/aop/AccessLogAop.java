@@ -1,31 +1,44 @@
 package org.example.expert.aop;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.http.HttpServletRequest;
-import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
 import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
-import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
 
-@Slf4j
+// 요청 스레드에서는 링 버퍼에 값만 넣고, 로그 문자열 생성과 파일 쓰기는 AccessLogWriter 가 합니다.
 @Aspect
 public class AccessLogAop {
 
+    private final AccessLogRingBuffer accessLogBuffer;
+    private final Timer enqueueTimer;
+
+    public AccessLogAop(AccessLogRingBuffer accessLogBuffer) {
+        this.accessLogBuffer = accessLogBuffer;
+        this.enqueueTimer = Timer.builder("access.log.enqueue")
+                .description("요청 스레드에서 접근 로그를 버퍼에 넣는 시간")
+                .register(Metrics.globalRegistry);
+    }
+
     @Pointcut("@annotation(org.example.expert.domain.common.annotation.AccessLog)")
     public void accessLog() {}
 
     @Before("accessLog()")
     public void leaveAccessLog() {
-        try {
-            HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
-            log.info("요청한 사용자의 ID : {}", request.getAttribute("userId"));
-            log.info("API 요청 시각 : {}", LocalDateTime.now());
-            log.info("API 요청 URL : {}", request.getRequestURL());
-        } catch (IllegalStateException e) {
-            System.out.println("No request found. Error : " + e);
+        long startedAt = System.nanoTime();
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return;
         }
+        HttpServletRequest request = servletAttributes.getRequest();
+        long userId = request.getAttribute("userId") instanceof Long id ? id : AccessLogRecord.NO_USER;
+        accessLogBuffer.offer(System.currentTimeMillis(), userId, request.getMethod(), request.getRequestURI());
+        enqueueTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
     }
 }
@@ -0,0 +1,26 @@
+package org.example.expert.aop;
+
+// 링 버퍼 칸마다 미리 만들어 두고 재사용하는 접근 로그 한 건입니다.
+// 요청 스레드는 값만 채우고, 문자열 변환은 AccessLogWriter 스레드에서 합니다.
+final class AccessLogRecord {
+
+    static final long NO_USER = -1L;
+
+    long timestampMillis;
+    long userId;
+    String method;
+    String uri;
+
+    void set(long timestampMillis, long userId, String method, String uri) {
+        this.timestampMillis = timestampMillis;
+        this.userId = userId;
+        this.method = method;
+        this.uri = uri;
+    }
+
+    // 칸을 비울 때 요청 객체의 문자열을 붙잡고 있지 않도록 참조를 끊습니다.
+    void clear() {
+        this.method = null;
+        this.uri = null;
+    }
+}
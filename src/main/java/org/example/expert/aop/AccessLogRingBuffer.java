@@ -0,0 +1,88 @@
+package org.example.expert.aop;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+// 여러 요청 스레드가 넣고 AccessLogWriter 스레드 하나가 꺼내는 크기 고정 링 버퍼입니다. (락 없음)
+// 칸마다 순번을 두어, 넣는 쪽은 tail 을 CAS 로 한 칸 차지한 뒤 값을 채우고 순번을 올려 공개합니다.
+// 가득 차면 기다리지 않고 버립니다. 요청 처리를 늦추는 것보다 접근 로그 일부를 잃는 쪽을 택합니다.
+public class AccessLogRingBuffer {
+
+    private final AccessLogRecord[] records;
+    // sequences[i] == 위치        : 비어 있어 위치에 넣을 수 있음
+    // sequences[i] == 위치 + 1    : 위치에 값이 들어 있어 꺼낼 수 있음
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    // 꺼내는 스레드만 읽고 씁니다.
+    private long head;
+
+    public AccessLogRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity 는 2 이상의 2의 거듭제곱이어야 합니다: " + capacity);
+        }
+        this.records = new AccessLogRecord[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            records[i] = new AccessLogRecord();
+            sequences.set(i, i);
+        }
+        this.mask = capacity - 1;
+    }
+
+    public boolean offer(long timestampMillis, long userId, String method, String uri) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.getAcquire(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    records[index].set(timestampMillis, userId, method, uri);
+                    sequences.setRelease(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // 한 바퀴 전 값을 아직 꺼내지 않았습니다.
+                dropped.incrementAndGet();
+                return false;
+            } else {
+                // 다른 스레드가 이 위치를 먼저 가져갔습니다.
+                position = tail.get();
+            }
+        }
+    }
+
+    // 꺼내는 스레드 하나에서만 호출합니다. consumer 가 끝나면 칸을 비워 다시 쓸 수 있게 합니다.
+    int drain(Consumer<AccessLogRecord> consumer, int maxRecords) {
+        int drained = 0;
+        while (drained < maxRecords) {
+            int index = (int) (head & mask);
+            if (sequences.getAcquire(index) != head + 1) {
+                break;
+            }
+            AccessLogRecord record = records[index];
+            consumer.accept(record);
+            record.clear();
+            sequences.setRelease(index, head + records.length);
+            head++;
+            drained++;
+        }
+        return drained;
+    }
+
+    public int capacity() {
+        return records.length;
+    }
+
+    // 게이지용 근사값입니다.
+    public long size() {
+        return Math.max(0, tail.get() - head);
+    }
+
+    public long droppedCount() {
+        return dropped.get();
+    }
+}
@@ -0,0 +1,101 @@
+package org.example.expert.aop;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+// AccessLogRingBuffer 를 백그라운드 스레드 하나에서 비우며 ACCESS_LOG 로거로 씁니다.
+// 한 번에 최대 batchSize 건을 여러 줄짜리 로그 이벤트 하나로 모아 씁니다. 파일 위치와 롤링은 logback-spring.xml 의 ACCESS_LOG 설정을 따릅니다.
+// 버퍼가 비어 있으면 flushIntervalMillis 동안 쉬므로 요청 스레드가 이 스레드를 깨울 필요가 없습니다.
+public class AccessLogWriter {
+
+    private static final Logger accessLog = LoggerFactory.getLogger("ACCESS_LOG");
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX").withZone(ZoneId.systemDefault());
+
+    private final AccessLogRingBuffer buffer;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final StringBuilder batch = new StringBuilder(1024);
+    private final Counter writtenCounter;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    public AccessLogWriter(AccessLogRingBuffer buffer, int batchSize, long flushIntervalMillis) {
+        this.buffer = buffer;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.writtenCounter = Counter.builder("access.log.records")
+                .tag("result", "written")
+                .register(Metrics.globalRegistry);
+        FunctionCounter.builder("access.log.records", buffer, AccessLogRingBuffer::droppedCount)
+                .tag("result", "dropped")
+                .description("버퍼가 가득 차 버린 접근 로그 수")
+                .register(Metrics.globalRegistry);
+        Gauge.builder("access.log.buffer.size", buffer, AccessLogRingBuffer::size)
+                .register(Metrics.globalRegistry);
+    }
+
+    public void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::run, "access-log-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // 종료 시 버퍼에 남은 로그를 모두 쓰고 끝냅니다.
+    public void stop() throws InterruptedException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(thread);
+        thread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private void run() {
+        while (running) {
+            if (drainOnce() == 0) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+        }
+        while (drainOnce() > 0) {
+            // 남은 로그를 비웁니다.
+        }
+    }
+
+    // 한 배치를 꺼내 쓰고 꺼낸 건수를 돌려줍니다.
+    int drainOnce() {
+        batch.setLength(0);
+        int drained = buffer.drain(this::append, batchSize);
+        if (drained > 0) {
+            batch.setLength(batch.length() - 1);
+            accessLog.info(batch.toString());
+            writtenCounter.increment(drained);
+        }
+        return drained;
+    }
+
+    private void append(AccessLogRecord record) {
+        TIMESTAMP.formatTo(Instant.ofEpochMilli(record.timestampMillis), batch);
+        batch.append(" userId=");
+        if (record.userId == AccessLogRecord.NO_USER) {
+            batch.append('-');
+        } else {
+            batch.append(record.userId);
+        }
+        batch.append(' ').append(record.method).append(' ').append(record.uri).append('\n');
+    }
+}
@@ -1,30 +1,136 @@
 package org.example.expert.client;
 
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.client.dto.WeatherDto;
 import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
 
+@Slf4j
 @Component
 public class WeatherClient {
 
+    public static final String FALLBACK_WEATHER = "Unknown";
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd");
+
     private final RestTemplate restTemplate;
+    private final URI weatherApiUri;
+    private final CircuitBreaker circuitBreaker;
+    private final ReentrantLock loadLock = new ReentrantLock();
 
-    public WeatherClient(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+    // MM-dd -> 날씨. 갱신 시 통째로 교체하므로 읽기 쪽은 락 없이 조회합니다.
+    private volatile Map<String, String> weatherByDate = Map.of();
+
+    public WeatherClient(
+            RestTemplateBuilder builder,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            @Value("${weather.api.url:https://f-api.github.io}") String weatherApiUrl,
+            @Value("${weather.connect-timeout-ms:1000}") long connectTimeoutMs,
+            @Value("${weather.read-timeout-ms:2000}") long readTimeoutMs
+    ) {
+        this.restTemplate = builder
+                .setConnectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .setReadTimeout(Duration.ofMillis(readTimeoutMs))
+                .build();
+        this.weatherApiUri = buildWeatherApiUri(weatherApiUrl);
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker("weather");
+        this.circuitBreaker.getEventPublisher().onStateTransition(event ->
+                log.warn("날씨 API 서킷 상태 변경 : {}", event.getStateTransition()));
     }
 
     public String getTodayWeather() {
+        Map<String, String> cache = weatherByDate;
+        if (cache.isEmpty()) {
+            // 아직 한 번도 적재되지 않은 경우에만 요청 스레드에서 직접 가져옵니다.
+            try {
+                cache = loadWeather(false);
+            } catch (RuntimeException e) {
+                log.warn("날씨 데이터를 가져오지 못해 기본값을 사용합니다. : {}", e.getMessage());
+                return FALLBACK_WEATHER;
+            }
+            if (cache.isEmpty()) {
+                log.debug("다른 스레드가 날씨 데이터를 가져오는 중이라 기본값을 사용합니다.");
+                return FALLBACK_WEATHER;
+            }
+        }
+
+        String weather = cache.get(getCurrentDate());
+        if (weather == null) {
+            log.warn("오늘에 해당하는 날씨 데이터를 찾을 수 없어 기본값을 사용합니다.");
+            return FALLBACK_WEATHER;
+        }
+        return weather;
+    }
+
+    // 기동 직후 한 번, 이후 주기적으로 백그라운드에서 갱신합니다. 실패하면 기존 캐시를 그대로 사용합니다.
+    @Scheduled(initialDelay = 0, fixedDelayString = "${weather.refresh-interval-ms:3600000}")
+    public void refreshWeather() {
+        try {
+            loadWeather(true);
+        } catch (CallNotPermittedException e) {
+            log.warn("날씨 API 서킷이 열려 있어 갱신을 건너뜁니다.");
+        } catch (RuntimeException e) {
+            log.warn("날씨 데이터 갱신에 실패했습니다. 기존 캐시를 유지합니다.", e);
+        }
+    }
+
+    public CircuitBreaker.State getCircuitBreakerState() {
+        return circuitBreaker.getState();
+    }
+
+    // 원격 호출은 한 스레드만 합니다. 이미 다른 스레드가 가져오는 중이면 기다리지 않고 지금 가진 캐시를 돌려주므로
+    // 요청 스레드가 느린 날씨 API 뒤에 줄 서지 않습니다. (캐시가 비어 있으면 호출한 쪽이 기본값을 씁니다)
+    private Map<String, String> loadWeather(boolean force) {
+        if (!loadLock.tryLock()) {
+            return weatherByDate;
+        }
+        try {
+            // 락을 잡기 전에 다른 스레드가 먼저 적재했다면 다시 호출하지 않습니다.
+            if (!force && !weatherByDate.isEmpty()) {
+                return weatherByDate;
+            }
+
+            WeatherDto[] weatherArray = circuitBreaker.executeSupplier(this::fetchWeather);
+
+            // Map.copyOf 는 null 키/값을 받지 않으므로 날짜나 날씨가 빠진 항목은 버립니다.
+            Map<String, String> loaded = new HashMap<>(weatherArray.length * 2);
+            for (WeatherDto weatherDto : weatherArray) {
+                if (weatherDto != null && weatherDto.getDate() != null && weatherDto.getWeather() != null) {
+                    loaded.put(weatherDto.getDate(), weatherDto.getWeather());
+                }
+            }
+            if (loaded.isEmpty()) {
+                throw new ServerException("유효한 날씨 데이터가 없습니다.");
+            }
+
+            weatherByDate = Map.copyOf(loaded);
+            return weatherByDate;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private WeatherDto[] fetchWeather() {
         ResponseEntity<WeatherDto[]> responseEntity =
-                restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
+                restTemplate.getForEntity(weatherApiUri, WeatherDto[].class);
 
         WeatherDto[] weatherArray = responseEntity.getBody();
         if (!HttpStatus.OK.equals(responseEntity.getStatusCode())) {
@@ -33,20 +139,12 @@ public class WeatherClient {
         if (weatherArray == null || weatherArray.length == 0) {
             throw new ServerException("날씨 데이터가 없습니다.");
         }
-        String today = getCurrentDate();
-
-        for (WeatherDto weatherDto : weatherArray) {
-            if (today.equals(weatherDto.getDate())) {
-                return weatherDto.getWeather();
-            }
-        }
-
-        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+        return weatherArray;
     }
 
-    private URI buildWeatherApiUri() {
+    private URI buildWeatherApiUri(String weatherApiUrl) {
         return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
+                .fromUriString(weatherApiUrl)
                 .path("/f-api/weather.json")
                 .encode()
                 .build()
@@ -54,7 +152,6 @@ public class WeatherClient {
     }
 
     private String getCurrentDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
+        return LocalDate.now().format(DATE_FORMATTER);
     }
 }
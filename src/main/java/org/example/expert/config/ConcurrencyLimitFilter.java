@@ -0,0 +1,129 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+// 동시에 처리 중인 요청 수를 레인별 AIMD 한도(AimdLimiter)로 제한하고, 넘치는 요청은 바로 503 + Retry-After 로 돌려보냅니다.
+// /auth, /admin, /actuator 는 PRIORITY 레인에서 따로 한도를 가지므로 /todos 조회가 몰려도 로그인/관리 요청은 밀려나지 않습니다.
+// 원래 오래 걸리는 스트리밍/일괄 요청(/todos/export, /todos/batch)은 BULK 레인으로 보내, 그 처리 시간이 DEFAULT 레인의 한도를 줄이지 않게 합니다.
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    public enum Lane {
+        PRIORITY, BULK, DEFAULT;
+
+        static Lane of(String uri) {
+            if (uri.startsWith("/auth") || uri.startsWith("/admin") || uri.startsWith("/actuator")) {
+                return PRIORITY;
+            }
+            if (uri.equals("/todos/export") || uri.equals("/todos/batch")) {
+                return BULK;
+            }
+            return DEFAULT;
+        }
+    }
+
+    private final Map<Lane, AimdLimiter> limiters = new EnumMap<>(Lane.class);
+    private final Map<Lane, Counter> rejectedCounters = new EnumMap<>(Lane.class);
+    private final String retryAfterSeconds;
+
+    public ConcurrencyLimitFilter(MeterRegistry meterRegistry, Function<Lane, AimdLimiter> limiterFactory, int retryAfterSeconds) {
+        this.retryAfterSeconds = Integer.toString(retryAfterSeconds);
+        for (Lane lane : Lane.values()) {
+            AimdLimiter limiter = limiterFactory.apply(lane);
+            limiters.put(lane, limiter);
+            String tag = lane.name().toLowerCase();
+            Gauge.builder("http.server.concurrency.limit", limiter, AimdLimiter::limit)
+                    .description("현재 동시 처리 한도")
+                    .tag("lane", tag)
+                    .register(meterRegistry);
+            Gauge.builder("http.server.concurrency.in-flight", limiter, AimdLimiter::inFlight)
+                    .description("처리 중인 요청 수")
+                    .tag("lane", tag)
+                    .register(meterRegistry);
+            rejectedCounters.put(lane, Counter.builder("http.server.concurrency.rejected")
+                    .description("한도를 넘어 503 으로 돌려보낸 요청 수")
+                    .tag("lane", tag)
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Lane lane = Lane.of(request.getRequestURI());
+        AimdLimiter limiter = limiters.get(lane);
+        if (!limiter.tryAcquire()) {
+            rejectedCounters.get(lane).increment();
+            response.setHeader("Retry-After", retryAfterSeconds);
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        boolean async = false;
+        try {
+            chain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                // CompletableFuture 를 돌려주는 컨트롤러(로그인/회원가입)는 비동기 처리가 끝날 때 자리를 반납합니다.
+                request.getAsyncContext().addListener(new ReleaseOnComplete(limiter, startedAt));
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                limiter.release(System.nanoTime() - startedAt);
+            }
+        }
+    }
+
+    private static class ReleaseOnComplete implements AsyncListener {
+
+        private final AimdLimiter limiter;
+        private final long startedAt;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        ReleaseOnComplete(AimdLimiter limiter, long startedAt) {
+            this.limiter = limiter;
+            this.startedAt = startedAt;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+
+        // 타임아웃/오류 뒤에 complete 가 한 번 더 올 수 있으므로 한 번만 반납합니다.
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                limiter.release(System.nanoTime() - startedAt);
+            }
+        }
+    }
+}
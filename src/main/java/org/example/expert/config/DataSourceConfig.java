@@ -0,0 +1,77 @@
+package org.example.expert.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.example.expert.config.ReplicationRoutingDataSource.ReplicaSelection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+// datasource.replica.urls 가 있을 때만 읽기/쓰기 라우팅을 켭니다. 없으면 스프링 부트 기본 DataSource 하나를 그대로 씁니다.
+// 예: datasource.replica.urls=jdbc:mysql://replica-1:3306/expert,jdbc:mysql://replica-2:3306/expert
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "urls")
+public class DataSourceConfig {
+
+    @Value("${datasource.replica.urls}")
+    private List<String> replicaUrls;
+    // 비워 두면 spring.datasource.username / password 를 그대로 씁니다.
+    @Value("${datasource.replica.username:}")
+    private String replicaUsername;
+    @Value("${datasource.replica.password:}")
+    private String replicaPassword;
+    // 0 이면 프라이머리 풀과 같은 크기로 만듭니다.
+    @Value("${datasource.replica.maximum-pool-size:0}")
+    private int replicaMaximumPoolSize;
+    // round-robin | least-connections
+    @Value("${datasource.replica.selection:round-robin}")
+    private String replicaSelection;
+
+    // 프라이머리 풀은 스프링 부트 기본 DataSource 와 같은 설정(spring.datasource.*, spring.datasource.hikari.*)으로 만듭니다.
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicationRoutingDataSource replicationRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties properties
+    ) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + i);
+            replica.setJdbcUrl(replicaUrls.get(i).trim());
+            replica.setUsername(replicaUsername.isEmpty() ? properties.determineUsername() : replicaUsername);
+            replica.setPassword(replicaPassword.isEmpty() ? properties.determinePassword() : replicaPassword);
+            // 프라이머리도 크기를 정하지 않았다면(-1) Hikari 기본값을 그대로 둡니다.
+            int maximumPoolSize = replicaMaximumPoolSize > 0 ? replicaMaximumPoolSize : primaryDataSource.getMaximumPoolSize();
+            if (maximumPoolSize > 0) {
+                replica.setMaximumPoolSize(maximumPoolSize);
+            }
+            replica.setReadOnly(true);
+            PersistenceConfig.applyMysqlDriverDefaults(replica);
+            replicas.add(replica);
+        }
+        return new ReplicationRoutingDataSource(primaryDataSource, replicas, ReplicaSelection.from(replicaSelection));
+    }
+
+    // JPA/트랜잭션 매니저가 쓰는 DataSource 입니다. 첫 쿼리 때 커넥션을 얻어 readOnly 여부에 맞는 풀을 고르게 합니다.
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicationRoutingDataSource replicationRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicationRoutingDataSource);
+    }
+}
@@ -1,9 +1,12 @@
 package org.example.expert.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 
 @Configuration
 @RequiredArgsConstructor
@@ -19,4 +22,45 @@ public class FilterConfig {
 
         return registrationBean;
     }
+
+    // JwtFilter 가 막은 요청도 세도록 더 앞에 둡니다.
+    @Bean
+    public FilterRegistrationBean<QueryCountFilter> queryCountFilter(
+            MeterRegistry meterRegistry,
+            @Value("${query-count.warn-threshold:20}") int warnThreshold
+    ) {
+        FilterRegistrationBean<QueryCountFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new QueryCountFilter(meterRegistry, warnThreshold));
+        registrationBean.addUrlPatterns("/*");
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+
+        return registrationBean;
+    }
+
+    // 돌려보낼 요청이 토큰 검사 비용을 치르지 않도록 JwtFilter 보다 앞에 둡니다.
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            MeterRegistry meterRegistry,
+            @Value("${concurrency-limit.initial-limit:20}") int initialLimit,
+            @Value("${concurrency-limit.min-limit:5}") int minLimit,
+            @Value("${concurrency-limit.max-limit:200}") int maxLimit,
+            @Value("${concurrency-limit.latency-threshold-ms:500}") long latencyThresholdMillis,
+            @Value("${concurrency-limit.backoff-ratio:0.9}") double backoffRatio,
+            @Value("${concurrency-limit.bulk-limit:4}") int bulkLimit,
+            @Value("${concurrency-limit.retry-after-seconds:1}") int retryAfterSeconds
+    ) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new ConcurrencyLimitFilter(
+                meterRegistry,
+                // BULK 레인은 처리 시간이 길어도 한도가 바뀌지 않도록 고정 한도(min = max)로 둡니다.
+                lane -> lane == ConcurrencyLimitFilter.Lane.BULK
+                        ? new AimdLimiter(bulkLimit, bulkLimit, bulkLimit, latencyThresholdMillis, backoffRatio)
+                        : new AimdLimiter(initialLimit, minLimit, maxLimit, latencyThresholdMillis, backoffRatio),
+                retryAfterSeconds
+        ));
+        registrationBean.addUrlPatterns("/*");
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+
+        return registrationBean;
+    }
 }
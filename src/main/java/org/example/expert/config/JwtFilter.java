@@ -4,21 +4,30 @@ import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterConfig;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.expert.domain.user.enums.UserRole;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
-@RequiredArgsConstructor
 public class JwtFilter implements Filter {
 
     private final JwtUtil jwtUtil;
+    private final Timer filterTimer;
+
+    public JwtFilter(JwtUtil jwtUtil) {
+        this.jwtUtil = jwtUtil;
+        this.filterTimer = Timer.builder("jwt.filter")
+                .description("JwtFilter 의 토큰 검사 시간")
+                .register(Metrics.globalRegistry);
+    }
 
     @Override
     public void init(FilterConfig filterConfig) throws ServletException {
@@ -30,11 +39,26 @@ public class JwtFilter implements Filter {
         HttpServletRequest httpRequest = (HttpServletRequest) request;
         HttpServletResponse httpResponse = (HttpServletResponse) response;
 
-        String url = httpRequest.getRequestURI();
+        // 토큰 검사에 걸린 시간만 jwt.filter 로 기록합니다. 뒤쪽 필터/컨트롤러 시간은 포함하지 않습니다.
+        long startedAt = System.nanoTime();
+        boolean authenticated;
+        try {
+            authenticated = authenticate(httpRequest, httpResponse);
+        } finally {
+            filterTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
 
-        if (url.startsWith("/auth")) {
+        if (authenticated) {
             chain.doFilter(request, response);
-            return;
+        }
+    }
+
+    // 통과시키면 true, 오류 응답을 보냈으면 false 를 돌려줍니다.
+    private boolean authenticate(HttpServletRequest httpRequest, HttpServletResponse httpResponse) throws IOException {
+        String url = httpRequest.getRequestURI();
+
+        if (url.startsWith("/auth") || url.equals("/actuator/health")) {
+            return true;
         }
 
         String bearerJwt = httpRequest.getHeader("Authorization");
@@ -42,7 +66,7 @@ public class JwtFilter implements Filter {
         if (bearerJwt == null) {
             // 토큰이 없는 경우 400을 반환합니다.
             httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "JWT 토큰이 필요합니다.");
-            return;
+            return false;
         }
 
         String jwt = jwtUtil.substringToken(bearerJwt);
@@ -52,7 +76,7 @@ public class JwtFilter implements Filter {
             Claims claims = jwtUtil.extractClaims(jwt);
             if (claims == null) {
                 httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "잘못된 JWT 토큰입니다.");
-                return;
+                return false;
             }
 
             UserRole userRole = UserRole.valueOf(claims.get("userRole", String.class));
@@ -61,17 +85,15 @@ public class JwtFilter implements Filter {
             httpRequest.setAttribute("email", claims.get("email"));
             httpRequest.setAttribute("userRole", claims.get("userRole"));
 
-            if (url.startsWith("/admin")) {
+            if (url.startsWith("/admin") || url.startsWith("/actuator")) {
                 // 관리자 권한이 없는 경우 403을 반환합니다.
                 if (!UserRole.ADMIN.equals(userRole)) {
                     httpResponse.sendError(HttpServletResponse.SC_FORBIDDEN, "관리자 권한이 없습니다.");
-                    return;
+                    return false;
                 }
-                chain.doFilter(request, response);
-                return;
             }
 
-            chain.doFilter(request, response);
+            return true;
         } catch (SecurityException | MalformedJwtException e) {
             log.error("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.", e);
             httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "유효하지 않는 JWT 서명입니다.");
@@ -85,6 +107,7 @@ public class JwtFilter implements Filter {
             log.error("Invalid JWT token, 유효하지 않는 JWT 토큰 입니다.", e);
             httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "유효하지 않는 JWT 토큰입니다.");
         }
+        return false;
     }
 
     @Override
@@ -1,6 +1,7 @@
 package org.example.expert.config;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -15,6 +16,7 @@ import org.springframework.util.StringUtils;
 import java.security.Key;
 import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j(topic = "JwtUtil")
 @Component
@@ -25,13 +27,24 @@ public class JwtUtil {
 
     @Value("${jwt.secret.key}")
     private String secretKey;
+    @Value("${jwt.claims-cache.max-size:10000}")
+    private int claimsCacheMaxSize;
     private Key key;
+    private JwtParser jwtParser;
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
 
+    // 서명 -> 검증이 끝난 claims. 같은 토큰으로 반복되는 요청은 HMAC 검증과 JSON 파싱을 건너뜁니다.
+    private final ConcurrentHashMap<String, VerifiedClaims> claimsCache = new ConcurrentHashMap<>();
+    private volatile long nextEvictionAt;
+
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        // JwtParser 는 불변 객체라 스레드 간에 공유해도 안전합니다.
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 
     public String createToken(Long userId, String email, UserRole userRole) {
@@ -55,11 +68,59 @@ public class JwtUtil {
         throw new ServerException("Not Found Token");
     }
 
+    // 캐시된 Claims 는 여러 요청이 함께 보므로 읽기 전용으로만 사용해야 합니다.
     public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        String signature = token.substring(token.lastIndexOf('.') + 1);
+        long now = System.currentTimeMillis();
+
+        VerifiedClaims cached = claimsCache.get(signature);
+        if (cached != null) {
+            // 서명만 같고 header/payload 가 다른 토큰은 캐시를 쓰지 않고 다시 검증합니다.
+            if (cached.expiresAt > now && cached.token.equals(token)) {
+                return cached.claims;
+            }
+            claimsCache.remove(signature, cached);
+        }
+
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        cacheClaims(signature, token, claims, now);
+        return claims;
+    }
+
+    private void cacheClaims(String signature, String token, Claims claims, long now) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return;
+        }
+
+        if (claimsCache.size() >= claimsCacheMaxSize) {
+            evictExpiredClaims(now);
+            if (claimsCache.size() >= claimsCacheMaxSize) {
+                return;
+            }
+        }
+        claimsCache.put(signature, new VerifiedClaims(token, claims, expiration.getTime()));
+    }
+
+    // 가득 찬 상태에서 매 요청마다 전체를 훑지 않도록 만료 항목 정리는 1초에 한 번만 수행합니다.
+    private void evictExpiredClaims(long now) {
+        if (now < nextEvictionAt) {
+            return;
+        }
+        nextEvictionAt = now + 1000L;
+        claimsCache.values().removeIf(verifiedClaims -> verifiedClaims.expiresAt <= now);
+    }
+
+    private static class VerifiedClaims {
+
+        private final String token;
+        private final Claims claims;
+        private final long expiresAt;
+
+        private VerifiedClaims(String token, Claims claims, long expiresAt) {
+            this.token = token;
+            this.claims = claims;
+            this.expiresAt = expiresAt;
+        }
     }
 }
@@ -0,0 +1,17 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.expert.aop.ControllerTimerAop;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 메트릭을 남기는 빈은 Metrics.globalRegistry 대신 actuator 가 만든 MeterRegistry 를 주입받습니다.
+// WebConfig 는 @WebMvcTest 에도 올라오는데 그 슬라이스에는 MeterRegistry 가 없으므로 여기에 따로 둡니다.
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public ControllerTimerAop controllerTimerAop(MeterRegistry meterRegistry) {
+        return new ControllerTimerAop(meterRegistry);
+    }
+}
@@ -1,17 +1,82 @@
 package org.example.expert.config;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+@Slf4j
 @Component
 public class PasswordEncoder {
 
+    private static final int MAX_CALIBRATION_COST = 16;
+    private static final char[] CALIBRATION_PASSWORD = "calibration-Password1".toCharArray();
+
+    // 0 이면 기동 시 target-millis 에 가장 가까운 cost 를 측정해서 사용합니다.
+    @Value("${password.bcrypt.cost:0}")
+    private int configuredCost;
+    @Value("${password.bcrypt.target-millis:100}")
+    private long targetMillis;
+
+    private volatile int cost = BCrypt.MIN_COST;
+
+    @PostConstruct
+    public void init() {
+        if (configuredCost > 0) {
+            cost = configuredCost;
+            log.info("설정된 bcrypt cost {} 를 사용합니다.", cost);
+            return;
+        }
+        cost = calibrate(targetMillis);
+    }
+
     public String encode(String rawPassword) {
-        return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+        return BCrypt.withDefaults().hashToString(cost, rawPassword.toCharArray());
     }
 
     public boolean matches(String rawPassword, String encodedPassword) {
         BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
         return result.verified;
     }
+
+    // 현재 cost 보다 낮은 cost 로 만들어진 해시인지 확인합니다. ($2a$04$... 형식)
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(6) != '$') {
+            return false;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6)) < cost;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    // cost 를 하나씩 올려가며 해시 한 번에 걸리는 시간을 기록하고, 목표 시간을 넘지 않는 가장 큰 cost 를 고릅니다.
+    int calibrate(long targetMillis) {
+        BCrypt.Hasher hasher = BCrypt.withDefaults();
+        for (int i = 0; i < 5; i++) {
+            hasher.hash(BCrypt.MIN_COST, CALIBRATION_PASSWORD);
+        }
+
+        int selected = BCrypt.MIN_COST;
+        for (int candidate = BCrypt.MIN_COST; candidate <= MAX_CALIBRATION_COST; candidate++) {
+            long start = System.nanoTime();
+            hasher.hash(candidate, CALIBRATION_PASSWORD);
+            double elapsedMillis = (System.nanoTime() - start) / 1_000_000.0;
+            log.info("bcrypt cost {} : {} ms/hash", candidate, String.format("%.1f", elapsedMillis));
+
+            if (elapsedMillis > targetMillis) {
+                break;
+            }
+            selected = candidate;
+        }
+
+        log.info("bcrypt cost 를 {} 로 설정합니다. (목표 {} ms)", selected, targetMillis);
+        return selected;
+    }
 }
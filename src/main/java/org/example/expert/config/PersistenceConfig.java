@@ -1,9 +1,117 @@
 package org.example.expert.config;
 
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.hibernate.stat.HibernateMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
+import javax.cache.CacheManager;
+import java.net.URI;
+import java.util.Properties;
+
 @Configuration
 @EnableJpaAuditing
 public class PersistenceConfig {
+
+    private static final int DEFAULT_BATCH_SIZE = 50;
+
+    // open-in-view 로 세션이 요청 끝까지 열려 있어도, 커넥션은 트랜잭션이 끝나면 바로 풀에 반납합니다.
+    @Bean
+    public HibernatePropertiesCustomizer connectionHandlingCustomizer() {
+        return properties -> properties.put(
+                AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION
+        );
+    }
+
+    // 엔티티 id 를 시퀀스(allocationSize 50, pooled)로 미리 받아 두므로 insert 를 flush 시점에 모아서 배치로 보낼 수 있습니다.
+    // spring.jpa.properties.hibernate.* 로 직접 지정한 값이 있으면 그 값을 따릅니다.
+    // MySQL 에는 시퀀스가 없어 users_seq / todos_seq / comments_seq / managers_seq 테이블(next_val)을 씁니다.
+    // 기존 DB 에서는 이 테이블을 만들고 next_val 을 MAX(id) + 50 으로 채워야 합니다. pooled 최적화기는 읽은 값 v 에 대해
+    // v - 49 ~ v 를 쓰므로, MAX(id) + 1 로 채우면 첫 insert 가 기존 id 와 겹칩니다.
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer() {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(DEFAULT_BATCH_SIZE));
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, "true");
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, "true");
+        };
+    }
+
+    // User / Todo / Manager 와 Todo.managers 를 프로세스 안의 2차 캐시(JCache + Caffeine)에 올립니다.
+    // region 별 크기와 TTL 은 hibernate-jcache.conf 에 있고, 적중/미스 수는 Hibernate 통계로 모아 hibernate.second.level.cache.requests 로 노출합니다.
+    // Manager 만 저장/삭제해도 Todo.managers 컬렉션 캐시가 비워지도록 auto_evict_collection_cache 를 켭니다.
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.USE_SECOND_LEVEL_CACHE, "true");
+            properties.putIfAbsent(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.putIfAbsent(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.putIfAbsent(ConfigSettings.MISSING_CACHE_STRATEGY, "create");
+            properties.putIfAbsent(AvailableSettings.AUTO_EVICT_COLLECTION_CACHE, "true");
+            properties.putIfAbsent(AvailableSettings.GENERATE_STATISTICS, "true");
+            // 통계를 켜도 세션마다 남는 Session Metrics 로그는 끕니다.
+            properties.putIfAbsent(AvailableSettings.LOG_SESSION_METRICS, "false");
+        };
+    }
+
+    // provider 를 새로 만들어 CacheManager 를 이 컨텍스트 전용으로 두고, 컨텍스트가 닫힐 때 함께 닫습니다.
+    // (공용 provider 는 같은 설정 파일이면 JVM 안의 모든 SessionFactory 에 같은 CacheManager 를 돌려줍니다.)
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${persistence.cache.config:classpath:hibernate-jcache.conf}") String configUri
+    ) {
+        return new CaffeineCachingProvider().getCacheManager(URI.create(configUri), getClass().getClassLoader());
+    }
+
+    @Bean
+    public HibernateMetrics hibernateMetrics(EntityManagerFactory entityManagerFactory) {
+        HibernateMetrics metrics = new HibernateMetrics(
+                entityManagerFactory.unwrap(SessionFactory.class), "entityManagerFactory", Tags.empty());
+        metrics.bindTo(Metrics.globalRegistry);
+        return metrics;
+    }
+
+    // 실행한 SQL 수를 요청/테스트 단위로 세기 위한 StatementInspector 를 등록합니다. (QueryCounter)
+    @Bean
+    public HibernatePropertiesCustomizer queryCounterCustomizer() {
+        return properties -> properties.putIfAbsent(AvailableSettings.STATEMENT_INSPECTOR, new QueryCounter());
+    }
+
+    // MySQL 드라이버 기본값을 보완합니다. 직접 지정한 값이 있으면 그대로 둡니다.
+    // - rewriteBatchedStatements: 배치 insert 를 multi-row insert 한 번으로 보냅니다.
+    // - useCursorFetch: fetch size 를 지정한 쿼리(일정 내보내기)를 서버 커서로 나눠 읽고, 그동안 같은 커넥션으로 다른 쿼리도 실행할 수 있습니다.
+    @Bean
+    public static BeanPostProcessor mysqlDriverPropertiesPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    applyMysqlDriverDefaults(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    // 빈으로 등록하지 않는 풀(레플리카)에도 같은 기본값을 주기 위해 따로 둡니다.
+    static void applyMysqlDriverDefaults(HikariDataSource dataSource) {
+        if (dataSource.getJdbcUrl() != null && dataSource.getJdbcUrl().startsWith("jdbc:mysql:")) {
+            Properties properties = dataSource.getDataSourceProperties();
+            properties.putIfAbsent("rewriteBatchedStatements", "true");
+            properties.putIfAbsent("useCursorFetch", "true");
+        }
+    }
 }
@@ -0,0 +1,137 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// 요청마다 실행한 SQL 수를 셉니다.
+// - 응답 헤더 X-Query-Count: 응답 본문을 쓰기 시작하는 시점까지의 수 (스트리밍 응답은 그 뒤의 쿼리가 빠집니다)
+// - 메트릭 http.server.requests.queries{uri}: 요청이 끝났을 때의 수
+// - warnThreshold 이상이면 N+1 의심으로 경고 로그를 남깁니다.
+// 카운터는 요청 스레드의 ThreadLocal 이라, 비동기로 처리되는 요청(로그인/회원가입, 비밀번호 변경, 스트리밍 응답 등)은
+// 다른 스레드에서 실행한 SQL 을 셀 수 없습니다. 0 이나 일부만 센 값을 내보내지 않도록 이런 요청은 헤더와 메트릭에서 뺍니다.
+@Slf4j
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Query-Count";
+    public static final String METRIC_NAME = "http.server.requests.queries";
+
+    private final MeterRegistry meterRegistry;
+    private final int warnThreshold;
+    private final ConcurrentMap<String, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    public QueryCountFilter(MeterRegistry meterRegistry, int warnThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        QueryCounter.start();
+        QueryCountHeaderResponse countingResponse = new QueryCountHeaderResponse(response);
+        boolean async = false;
+        try {
+            chain.doFilter(request, countingResponse);
+            async = request.isAsyncStarted();
+        } finally {
+            int count = QueryCounter.stop();
+            if (async) {
+                // 본문은 나중에 다른 스레드에서 이 응답 객체로 쓰이므로 그때 헤더가 붙지 않게 막습니다.
+                countingResponse.skipHeader();
+            } else {
+                record(request, count);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, int count) {
+        String uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE) instanceof String pattern
+                ? pattern : "UNKNOWN";
+        summaryFor(uri).record(count);
+        if (count >= warnThreshold) {
+            log.warn("SQL {}건 실행 (기준 {}건): {} {}", count, warnThreshold, request.getMethod(), request.getRequestURI());
+        }
+    }
+
+    private DistributionSummary summaryFor(String uri) {
+        DistributionSummary summary = summaries.get(uri);
+        if (summary != null) {
+            return summary;
+        }
+        return summaries.computeIfAbsent(uri, u -> DistributionSummary.builder(METRIC_NAME)
+                .description("요청 하나가 실행한 SQL 수")
+                .tag("uri", u)
+                .register(meterRegistry));
+    }
+
+    // 본문을 쓰기 직전(헤더가 나가기 전)에 그때까지의 쿼리 수를 헤더로 붙입니다.
+    private static class QueryCountHeaderResponse extends HttpServletResponseWrapper {
+
+        private boolean headerWritten;
+
+        QueryCountHeaderResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeader();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeader();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeader();
+            super.sendRedirect(location);
+        }
+
+        void skipHeader() {
+            headerWritten = true;
+        }
+
+        private void writeHeader() {
+            if (!headerWritten && !isCommitted()) {
+                setHeader(HEADER, Integer.toString(QueryCounter.current()));
+            }
+            headerWritten = true;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.expert.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Hibernate 가 SQL 을 준비할 때마다 현재 스레드의 카운터를 1 올립니다. (PersistenceConfig 에서 StatementInspector 로 등록)
+// start() 로 세기 시작한 스레드에서만 셉니다. 요청 단위로는 QueryCountFilter 가, 테스트에서는 QueryCountAssertions 가 사용합니다.
+public class QueryCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    public static void start() {
+        COUNT.set(new int[1]);
+    }
+
+    public static int current() {
+        int[] count = COUNT.get();
+        return count == null ? 0 : count[0];
+    }
+
+    // 지금까지 센 수를 돌려주고 세기를 멈춥니다.
+    public static int stop() {
+        int count = current();
+        COUNT.remove();
+        return count;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+}
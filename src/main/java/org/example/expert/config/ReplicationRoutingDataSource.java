@@ -0,0 +1,123 @@
+package org.example.expert.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 읽기 전용 트랜잭션은 레플리카로, 나머지(쓰기 트랜잭션, 트랜잭션 밖 접근)는 프라이머리로 보냅니다.
+// 실제 커넥션을 얻는 시점에 트랜잭션의 readOnly 가 정해져 있어야 하므로 LazyConnectionDataSourceProxy 로 감싸서 사용합니다.
+// 같은 요청에서 쓰기 트랜잭션이 한 번이라도 커넥션을 잡으면 그 뒤의 읽기도 프라이머리로 보내 레플리카 지연으로 방금 쓴 값을 못 읽는 일을 막습니다.
+// 이 표시는 요청 속성에 남기므로 요청이 끝나면 사라지고, 요청 밖(스케줄러 등)에서는 트랜잭션마다 따로 판단합니다.
+@Slf4j
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    private static final String PRIMARY = "primary";
+    private static final String PINNED_TO_PRIMARY = ReplicationRoutingDataSource.class.getName() + ".PINNED_TO_PRIMARY";
+
+    private final DataSource primary;
+    private final List<HikariDataSource> replicas;
+    private final ReplicaSelection selection;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReplicationRoutingDataSource(DataSource primary, List<HikariDataSource> replicas, ReplicaSelection selection) {
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("replica 가 한 개 이상 필요합니다.");
+        }
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.selection = selection;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            targets.put(i, replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (request != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+                request.setAttribute(PINNED_TO_PRIMARY, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+            }
+            return PRIMARY;
+        }
+        if (request != null && request.getAttribute(PINNED_TO_PRIMARY, RequestAttributes.SCOPE_REQUEST) != null) {
+            return PRIMARY;
+        }
+        return selection == ReplicaSelection.LEAST_CONNECTIONS ? leastConnectionsReplica() : roundRobinReplica();
+    }
+
+    // 레플리카 풀에서 커넥션을 못 얻으면(장애, 풀 종료) 프라이머리로 대신 읽습니다.
+    @Override
+    public Connection getConnection() throws SQLException {
+        DataSource target = determineTargetDataSource();
+        try {
+            return target.getConnection();
+        } catch (SQLException e) {
+            if (target == primary) {
+                throw e;
+            }
+            log.warn("replica 커넥션 획득 실패, primary 로 읽습니다: {}", e.getMessage());
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        replicas.forEach(HikariDataSource::close);
+    }
+
+    private int roundRobinReplica() {
+        return Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+    }
+
+    // 사용 중인 커넥션이 가장 적은 풀을 고릅니다. 같으면 라운드 로빈 순서로 먼저 오는 풀을 고릅니다.
+    private int leastConnectionsReplica() {
+        int start = roundRobinReplica();
+        int best = start;
+        int bestActive = Integer.MAX_VALUE;
+        for (int offset = 0; offset < replicas.size(); offset++) {
+            int index = (start + offset) % replicas.size();
+            int active = activeConnections(replicas.get(index));
+            if (active < bestActive) {
+                best = index;
+                bestActive = active;
+            }
+        }
+        return best;
+    }
+
+    private static int activeConnections(HikariDataSource replica) {
+        HikariPoolMXBean pool = replica.getHikariPoolMXBean();
+        // 아직 커넥션을 한 번도 만들지 않은 풀은 null 입니다.
+        return pool == null ? 0 : pool.getActiveConnections();
+    }
+
+    public enum ReplicaSelection {
+        ROUND_ROBIN,
+        LEAST_CONNECTIONS;
+
+        // round-robin, least-connections 처럼 설정 파일 표기로 받습니다.
+        public static ReplicaSelection from(String value) {
+            return valueOf(value.trim().replace('-', '_').toUpperCase());
+        }
+    }
+}
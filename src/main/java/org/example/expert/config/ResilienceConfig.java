@@ -0,0 +1,41 @@
+package org.example.expert.config;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class ResilienceConfig {
+
+    @Value("${resilience.circuit-breaker.failure-rate-threshold:50}")
+    private float failureRateThreshold;
+    @Value("${resilience.circuit-breaker.sliding-window-size:10}")
+    private int slidingWindowSize;
+    @Value("${resilience.circuit-breaker.minimum-number-of-calls:5}")
+    private int minimumNumberOfCalls;
+    @Value("${resilience.circuit-breaker.wait-duration-in-open-state-ms:30000}")
+    private long waitDurationInOpenStateMs;
+
+    @Bean
+    public CircuitBreakerRegistry circuitBreakerRegistry(MeterRegistry meterRegistry) {
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumNumberOfCalls)
+                .waitDurationInOpenState(Duration.ofMillis(waitDurationInOpenStateMs))
+                .permittedNumberOfCallsInHalfOpenState(1)
+                .build();
+
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+        // resilience4j.circuitbreaker.state{state=closed|open|half_open} 등 상태별 게이지를 등록합니다.
+        // /actuator/metrics 가 읽는 Spring 의 MeterRegistry 에 직접 등록합니다.
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+}
@@ -0,0 +1,121 @@
+package org.example.expert.config;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+// 키(IP, 이메일 등)마다 토큰 버킷을 두는 메모리 내 처리율 제한기입니다.
+// 키는 해시로 stripe 하나에 배정되고, stripe 마다 락과 접근 순서 LinkedHashMap 을 따로 가지므로 전역 락 없이 O(1) 로 조회합니다.
+// 메모리는 두 가지로 제한합니다.
+// - 일정 시간(버킷이 가득 찰 때까지 걸리는 시간) 쓰이지 않은 버킷은 가득 찬 새 버킷과 같으므로, 접근할 때 오래된 쪽부터 지웁니다.
+// - stripe 당 maxKeys / stripes 개를 넘으면 가장 오래 쓰이지 않은 버킷을 지웁니다. (키가 폭증하면 그 버킷은 제한이 풀릴 수 있습니다)
+public class TokenBucketRateLimiter {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final long idleNanos;
+    private final int maxKeysPerStripe;
+    private final LongSupplier nanoClock;
+    private final Stripe[] stripes;
+
+    public TokenBucketRateLimiter(int capacity, int refillPerMinute, int maxKeys, int stripes) {
+        this(capacity, refillPerMinute, maxKeys, stripes, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(int capacity, int refillPerMinute, int maxKeys, int stripes, LongSupplier nanoClock) {
+        if (capacity < 1 || refillPerMinute < 1) {
+            throw new IllegalArgumentException("capacity 와 refillPerMinute 는 1 이상이어야 합니다.");
+        }
+        if (stripes < 1 || Integer.bitCount(stripes) != 1 || maxKeys < stripes) {
+            throw new IllegalArgumentException("stripes 는 2의 거듭제곱이고 maxKeys 이하여야 합니다.");
+        }
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+        this.idleNanos = (long) Math.ceil(capacity / tokensPerNano);
+        this.maxKeysPerStripe = maxKeys / stripes;
+        this.nanoClock = nanoClock;
+        this.stripes = new Stripe[stripes];
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new Stripe();
+        }
+    }
+
+    // 토큰을 하나 쓸 수 있으면 0 을, 없으면 다음 토큰이 생길 때까지 남은 시간(nanos)을 돌려줍니다.
+    public long tryAcquire(String key) {
+        Stripe stripe = stripes[spread(key.hashCode()) & (stripes.length - 1)];
+        long now = nanoClock.getAsLong();
+        stripe.lock.lock();
+        try {
+            stripe.evictIdle(now);
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket == null) {
+                bucket = new Bucket(capacity, now);
+                stripe.buckets.put(key, bucket);
+            } else {
+                bucket.tokens = Math.min(capacity, bucket.tokens + (now - bucket.lastRefillNanos) * tokensPerNano);
+                bucket.lastRefillNanos = now;
+            }
+            if (bucket.tokens >= 1) {
+                bucket.tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - bucket.tokens) / tokensPerNano);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.buckets.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        // accessOrder = true: get/put 할 때마다 맨 뒤로 가므로 맨 앞이 가장 오래 쓰이지 않은 버킷입니다.
+        private final LinkedHashMap<String, Bucket> buckets = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                return size() > maxKeysPerStripe;
+            }
+        };
+
+        // 앞에서부터 오래된 버킷만 지우다가 아직 쓰일 수 있는 버킷을 만나면 멈추므로 상각 O(1) 입니다.
+        void evictIdle(long now) {
+            Iterator<Bucket> iterator = buckets.values().iterator();
+            while (iterator.hasNext()) {
+                if (now - iterator.next().lastRefillNanos < idleNanos) {
+                    return;
+                }
+                iterator.remove();
+            }
+        }
+    }
+
+    private static final class Bucket {
+
+        private double tokens;
+        private long lastRefillNanos;
+
+        Bucket(double tokens, long now) {
+            this.tokens = tokens;
+            this.lastRefillNanos = now;
+        }
+    }
+}
@@ -2,6 +2,9 @@ package org.example.expert.config;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.aop.AccessLogAop;
+import org.example.expert.aop.AccessLogRingBuffer;
+import org.example.expert.aop.AccessLogWriter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
@@ -19,8 +22,26 @@ public class WebConfig implements WebMvcConfigurer {
         resolvers.add(new AuthUserArgumentResolver());
     }
 
+    // 접근 로그 버퍼 크기(2의 거듭제곱). 가득 차면 새 로그를 버리고 access.log.records{result=dropped} 를 올립니다.
+    @Value("${access-log.buffer-size:8192}")
+    private int accessLogBufferSize;
+    @Value("${access-log.batch-size:256}")
+    private int accessLogBatchSize;
+    @Value("${access-log.flush-interval-ms:100}")
+    private long accessLogFlushIntervalMs;
+
+    @Bean
+    public AccessLogRingBuffer accessLogRingBuffer() {
+        return new AccessLogRingBuffer(accessLogBufferSize);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public AccessLogWriter accessLogWriter(AccessLogRingBuffer accessLogRingBuffer) {
+        return new AccessLogWriter(accessLogRingBuffer, accessLogBatchSize, accessLogFlushIntervalMs);
+    }
+
     @Bean
-    public AccessLogAop accessLogAop() {
-        return new AccessLogAop();
+    public AccessLogAop accessLogAop(AccessLogRingBuffer accessLogRingBuffer) {
+        return new AccessLogAop(accessLogRingBuffer);
     }
 }
@@ -1,29 +1,43 @@
 package org.example.expert.domain.auth.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
+import org.example.expert.domain.auth.service.AuthRateLimiter;
 import org.example.expert.domain.auth.service.AuthService;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequiredArgsConstructor
 public class AuthController {
 
     private final AuthService authService;
+    private final AuthRateLimiter authRateLimiter;
 
+    // 프록시 뒤에 있다면 server.forward-headers-strategy 를 설정해야 getRemoteAddr 가 실제 클라이언트 IP 가 됩니다.
     @PostMapping("/auth/signup")
-    public SignupResponse signup(@Valid @RequestBody SignupRequest signupRequest) {
+    public CompletableFuture<SignupResponse> signup(
+            @Valid @RequestBody SignupRequest signupRequest,
+            HttpServletRequest request
+    ) {
+        authRateLimiter.check(request.getRemoteAddr(), signupRequest.getEmail());
         return authService.signup(signupRequest);
     }
 
     @PostMapping("/auth/signin")
-    public SigninResponse signin(@Valid @RequestBody SigninRequest signinRequest) {
+    public CompletableFuture<SigninResponse> signin(
+            @Valid @RequestBody SigninRequest signinRequest,
+            HttpServletRequest request
+    ) {
+        authRateLimiter.check(request.getRemoteAddr(), signinRequest.getEmail());
         return authService.signin(signinRequest);
     }
 }
@@ -0,0 +1,65 @@
+package org.example.expert.domain.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import org.example.expert.config.TokenBucketRateLimiter;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+// 로그인/회원가입은 요청마다 bcrypt 해시와 사용자 조회를 하므로 클라이언트 IP 와 이메일 각각으로 처리율을 제한합니다.
+// IP 제한은 한 곳에서 여러 계정을 두드리는 경우를, 이메일 제한은 여러 IP 에서 한 계정을 두드리는 경우를 막습니다.
+@Component
+public class AuthRateLimiter {
+
+    private final TokenBucketRateLimiter ipLimiter;
+    private final TokenBucketRateLimiter emailLimiter;
+    private final Counter ipRejectedCounter;
+    private final Counter emailRejectedCounter;
+
+    public AuthRateLimiter(
+            @Value("${auth.rate-limit.ip.capacity:20}") int ipCapacity,
+            @Value("${auth.rate-limit.ip.refill-per-minute:60}") int ipRefillPerMinute,
+            @Value("${auth.rate-limit.email.capacity:5}") int emailCapacity,
+            @Value("${auth.rate-limit.email.refill-per-minute:10}") int emailRefillPerMinute,
+            @Value("${auth.rate-limit.max-keys:100000}") int maxKeys,
+            @Value("${auth.rate-limit.stripes:64}") int stripes
+    ) {
+        this.ipLimiter = new TokenBucketRateLimiter(ipCapacity, ipRefillPerMinute, maxKeys, stripes);
+        this.emailLimiter = new TokenBucketRateLimiter(emailCapacity, emailRefillPerMinute, maxKeys, stripes);
+        this.ipRejectedCounter = rejectedCounter("ip");
+        this.emailRejectedCounter = rejectedCounter("email");
+    }
+
+    // 제한에 걸리면 TooManyRequestsException(429) 을 던집니다.
+    public void check(String clientIp, String email) {
+        long waitNanos = ipLimiter.tryAcquire(clientIp);
+        if (waitNanos > 0) {
+            ipRejectedCounter.increment();
+            throw tooManyRequests(waitNanos);
+        }
+        if (email == null) {
+            return;
+        }
+        waitNanos = emailLimiter.tryAcquire(email.trim().toLowerCase(Locale.ROOT));
+        if (waitNanos > 0) {
+            emailRejectedCounter.increment();
+            throw tooManyRequests(waitNanos);
+        }
+    }
+
+    private static TooManyRequestsException tooManyRequests(long waitNanos) {
+        long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        return new TooManyRequestsException("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+    }
+
+    private static Counter rejectedCounter(String key) {
+        return Counter.builder("auth.rate-limit.rejected")
+                .description("처리율 제한으로 429 를 돌려준 로그인/회원가입 요청 수")
+                .tag("key", key)
+                .register(Metrics.globalRegistry);
+    }
+}
@@ -1,31 +1,52 @@
 package org.example.expert.domain.auth.service;
 
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.config.JwtUtil;
-import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.PasswordHasher;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+@Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtUtil jwtUtil;
+    // 해시가 끝난 뒤의 DB 저장/조회와 토큰 발급은 이 풀에서 실행합니다. 해시 풀(코어 수)이 DB 대기로 묶이지 않게 합니다.
+    private final Executor taskExecutor;
+
+    public AuthService(
+            UserRepository userRepository,
+            PasswordHasher passwordHasher,
+            JwtUtil jwtUtil,
+            @Qualifier("applicationTaskExecutor") Executor taskExecutor
+    ) {
+        this.userRepository = userRepository;
+        this.passwordHasher = passwordHasher;
+        this.jwtUtil = jwtUtil;
+        this.taskExecutor = taskExecutor;
+    }
 
-    @Transactional
-    public SignupResponse signup(SignupRequest signupRequest) {
+    // 해시는 PasswordHasher 스레드에서 끝나므로 트랜잭션으로 묶지 않고, 저장은 userRepository.save 의 트랜잭션만 사용합니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<SignupResponse> signup(SignupRequest signupRequest) {
 
         if(signupRequest.getEmail() == null) {
             throw new InvalidRequestException("이메일을 입력해주세요.");
@@ -35,32 +56,62 @@ public class AuthService {
             throw new InvalidRequestException("이미 존재하는 이메일입니다.");
         }
 
-        String encodedPassword = passwordEncoder.encode(signupRequest.getPassword());
         UserRole userRole = UserRole.of(signupRequest.getUserRole());
 
-        User newUser = new User(
-                signupRequest.getEmail(),
-                encodedPassword,
-                userRole
-        );
-        User savedUser = userRepository.save(newUser);
+        return passwordHasher.encode(signupRequest.getPassword()).thenApplyAsync(encodedPassword -> {
+            User newUser = new User(
+                    signupRequest.getEmail(),
+                    encodedPassword,
+                    userRole
+            );
+            User savedUser = userRepository.save(newUser);
 
-        String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole);
+            String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole);
 
-        return new SignupResponse(bearerToken);
+            return new SignupResponse(bearerToken);
+        }, taskExecutor);
     }
 
-    public SigninResponse signin(SigninRequest signinRequest) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<SigninResponse> signin(SigninRequest signinRequest) {
         User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(
                 () -> new InvalidRequestException("가입되지 않은 유저입니다."));
 
-        // 로그인 시 이메일과 비밀번호가 일치하지 않을 경우 401을 반환합니다.
-        if (!passwordEncoder.matches(signinRequest.getPassword(), user.getPassword())) {
-            throw new AuthException("잘못된 비밀번호입니다.");
-        }
+        return passwordHasher.matches(signinRequest.getPassword(), user.getPassword()).thenApplyAsync(matches -> {
+            // 로그인 시 이메일과 비밀번호가 일치하지 않을 경우 401을 반환합니다.
+            if (!matches) {
+                throw new AuthException("잘못된 비밀번호입니다.");
+            }
+
+            rehashIfNeeded(user, signinRequest.getPassword());
 
-        String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
+            String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
 
-        return new SigninResponse(bearerToken);
+            return new SigninResponse(bearerToken);
+        }, taskExecutor);
+    }
+
+    // 예전 cost 로 만들어진 해시는 로그인에 성공한 평문으로 백그라운드에서 다시 해시합니다. 로그인 응답은 기다리지 않습니다.
+    private void rehashIfNeeded(User user, String rawPassword) {
+        if (!passwordHasher.needsRehash(user.getPassword())) {
+            return;
+        }
+
+        try {
+            // 해시만 해시 풀에서 하고, 쓰기 트랜잭션은 taskExecutor 에서 실행합니다.
+            passwordHasher.encode(rawPassword)
+                    .thenAcceptAsync(newPassword -> {
+                        if (userRepository.updatePasswordIfUnchanged(user.getId(), user.getPassword(), newPassword) == 0) {
+                            log.info("그사이 비밀번호가 바뀌어 재해시 결과를 저장하지 않았습니다. userId : {}", user.getId());
+                        }
+                    }, taskExecutor)
+                    .exceptionally(e -> {
+                        log.warn("비밀번호 재해시에 실패했습니다. userId : {}", user.getId(), e);
+                        return null;
+                    });
+        } catch (ServiceUnavailableException e) {
+            // 해시 풀이 바쁘면 이번에는 건너뛰고 다음 로그인 때 다시 시도합니다.
+            log.debug("해시 풀이 가득 차 비밀번호 재해시를 건너뜁니다. userId : {}", user.getId());
+        }
     }
 }
@@ -0,0 +1,16 @@
+package org.example.expert.domain.comment.dto.response;
+
+import lombok.Getter;
+
+// 일정 내보내기에서 여러 일정의 댓글을 IN 쿼리로 읽은 뒤 일정별로 나누기 위해 todoId 를 함께 받습니다.
+@Getter
+public class CommentExportRow {
+
+    private final Long todoId;
+    private final CommentResponse comment;
+
+    public CommentExportRow(Long todoId, Long id, String contents, Long userId, String email) {
+        this.todoId = todoId;
+        this.comment = new CommentResponse(id, contents, userId, email);
+    }
+}
@@ -15,4 +15,9 @@ public class CommentResponse {
         this.contents = contents;
         this.user = user;
     }
+
+    // JPQL 생성자 표현식(select new ...)에서 필요한 컬럼만 바로 받기 위한 생성자입니다.
+    public CommentResponse(Long id, String contents, Long userId, String email) {
+        this(id, contents, new UserResponse(userId, email));
+    }
 }
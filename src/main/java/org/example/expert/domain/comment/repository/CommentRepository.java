@@ -1,14 +1,48 @@
 package org.example.expert.domain.comment.repository;
 
+import org.example.expert.domain.comment.dto.response.CommentExportRow;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.entity.Comment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId")
-    List<Comment> findByTodoIdWithUser(@Param("todoId") Long todoId);
+    @Query("SELECT new org.example.expert.domain.comment.dto.response.CommentResponse(c.id, c.contents, u.id, u.email) " +
+            "FROM Comment c JOIN c.user u WHERE c.todo.id = :todoId")
+    List<CommentResponse> findResponsesByTodoId(@Param("todoId") Long todoId);
+
+    // (todo_id, id) 인덱스를 따라 afterId 다음부터 size + 1 건만 읽습니다.
+    @Query("SELECT new org.example.expert.domain.comment.dto.response.CommentResponse(c.id, c.contents, u.id, u.email) " +
+            "FROM Comment c JOIN c.user u WHERE c.todo.id = :todoId AND c.id > :afterId ORDER BY c.id")
+    Slice<CommentResponse> findSliceByTodoIdAfter(@Param("todoId") Long todoId, @Param("afterId") Long afterId, Pageable pageable);
+
+    // 내보내기용. (todoId, id) keyset 으로 pageable 크기만큼씩 이어서 읽습니다.
+    @Query("SELECT new org.example.expert.domain.comment.dto.response.CommentExportRow(c.todo.id, c.id, c.contents, u.id, u.email) " +
+            "FROM Comment c JOIN c.user u WHERE c.todo.id IN :todoIds " +
+            "AND (c.todo.id > :afterTodoId OR (c.todo.id = :afterTodoId AND c.id > :afterId)) " +
+            "ORDER BY c.todo.id, c.id")
+    List<CommentExportRow> findExportRowsByTodoIdInAfter(@Param("todoIds") Collection<Long> todoIds,
+                                                         @Param("afterTodoId") Long afterTodoId,
+                                                         @Param("afterId") Long afterId,
+                                                         Pageable pageable);
+
+    @Query("SELECT c.todo.id FROM Comment c WHERE c.id = :commentId")
+    Optional<Long> findTodoIdById(@Param("commentId") Long commentId);
+
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.id = :commentId")
+    int deleteByIdInBulk(@Param("commentId") Long commentId);
+
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.todo.id = :todoId")
+    int deleteAllByTodoId(@Param("todoId") Long todoId);
 }
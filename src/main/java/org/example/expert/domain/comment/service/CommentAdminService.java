@@ -2,6 +2,7 @@ package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,9 +11,15 @@ import org.springframework.transaction.annotation.Transactional;
 public class CommentAdminService {
 
     private final CommentRepository commentRepository;
+    private final TodoRepository todoRepository;
 
+    // 없는 댓글이면 아무것도 하지 않습니다. 실제로 지운 경우에만 일정의 댓글 수를 줄입니다.
     @Transactional
     public void deleteComment(long commentId) {
-        commentRepository.deleteById(commentId);
+        commentRepository.findTodoIdById(commentId).ifPresent(todoId -> {
+            if (commentRepository.deleteByIdInBulk(commentId) > 0) {
+                todoRepository.addCommentCount(todoId, -1);
+            }
+        });
     }
 }
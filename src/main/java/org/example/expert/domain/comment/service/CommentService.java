@@ -7,16 +7,18 @@ import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
-import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -26,6 +28,9 @@ public class CommentService {
 
     private final TodoRepository todoRepository;
     private final CommentRepository commentRepository;
+    private final ManagerRepository managerRepository;
+
+    private static final int MAX_PAGE_SIZE = 100;
 
     @Transactional
     public CommentSaveResponse saveComment(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
@@ -33,9 +38,9 @@ public class CommentService {
         Todo todo = todoRepository.findById(todoId).orElseThrow(() ->
                 new InvalidRequestException("Todo not found"));
 
-        todo.getManagers().stream().filter(manager -> manager.getUser().getId().equals(user.getId())).findFirst().orElseThrow(
-                () -> new InvalidRequestException("Only todo manager can leave a comment.")
-        );
+        if (!managerRepository.existsByTodoIdAndUserId(todoId, user.getId())) {
+            throw new InvalidRequestException("Only todo manager can leave a comment.");
+        }
 
         Comment newComment = new Comment(
                 commentSaveRequest.getContents(),
@@ -44,6 +49,7 @@ public class CommentService {
         );
 
         Comment savedComment = commentRepository.save(newComment);
+        todoRepository.addCommentCount(todoId, 1);
 
         return new CommentSaveResponse(
                 savedComment.getId(),
@@ -53,18 +59,30 @@ public class CommentService {
     }
 
     public List<CommentResponse> getComments(long todoId) {
-        List<Comment> commentList = commentRepository.findByTodoIdWithUser(todoId);
+        return commentRepository.findResponsesByTodoId(todoId);
+    }
+
+    // 커서는 마지막으로 받은 댓글 id 입니다. 비어 있으면 처음부터 조회합니다.
+    public CursorResponse<CommentResponse> getCommentsByCursor(long todoId, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("size 는 1 이상 " + MAX_PAGE_SIZE + " 이하로 요청해주세요.");
+        }
+
+        long afterId = 0L;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                afterId = Long.parseLong(cursor);
+            } catch (NumberFormatException e) {
+                throw new InvalidRequestException("잘못된 cursor 입니다.");
+            }
+        }
+
+        Slice<CommentResponse> comments = commentRepository.findSliceByTodoIdAfter(todoId, afterId, PageRequest.of(0, size));
 
-        List<CommentResponse> dtoList = new ArrayList<>();
-        for (Comment comment : commentList) {
-            User user = comment.getUser();
-            CommentResponse dto = new CommentResponse(
-                    comment.getId(),
-                    comment.getContents(),
-                    new UserResponse(user.getId(), user.getEmail())
-            );
-            dtoList.add(dto);
+        String nextCursor = null;
+        if (comments.hasNext()) {
+            nextCursor = String.valueOf(comments.getContent().get(comments.getNumberOfElements() - 1).getId());
         }
-        return dtoList;
+        return new CursorResponse<>(comments.getContent(), nextCursor, comments.hasNext());
     }
 }
@@ -0,0 +1,16 @@
+package org.example.expert.domain.common.exception;
+
+public class TooManyRequestsException extends RuntimeException {
+
+    // 응답의 Retry-After 헤더로 내려갑니다.
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.expert.domain.manager.dto.response;
+
+import lombok.Getter;
+
+// 일정 내보내기에서 여러 일정의 담당자를 IN 쿼리로 읽은 뒤 일정별로 나누기 위해 todoId 를 함께 받습니다.
+@Getter
+public class ManagerExportRow {
+
+    private final Long todoId;
+    private final ManagerResponse manager;
+
+    public ManagerExportRow(Long todoId, Long id, Long userId, String email) {
+        this.todoId = todoId;
+        this.manager = new ManagerResponse(id, userId, email);
+    }
+}
@@ -3,16 +3,23 @@ package org.example.expert.domain.manager.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.user.entity.User;
 
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "managers")
+// 담당자 여부 확인(todo_id, user_id)을 인덱스 한 번으로 끝내고 중복 등록도 막습니다.
+@Table(name = "managers", uniqueConstraints = @UniqueConstraint(
+        name = "uk_managers_todo_id_user_id", columnNames = {"todo_id", "user_id"}))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "manager")
 public class Manager {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "manager_seq")
+    @SequenceGenerator(name = "manager_seq", sequenceName = "managers_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
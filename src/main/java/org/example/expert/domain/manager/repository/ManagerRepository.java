@@ -1,13 +1,35 @@
 package org.example.expert.domain.manager.repository;
 
+import org.example.expert.domain.manager.dto.response.ManagerExportRow;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.entity.Manager;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ManagerRepository extends JpaRepository<Manager, Long> {
-    @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId")
-    List<Manager> findByTodoIdWithUser(@Param("todoId") Long todoId);
+    @Query("SELECT new org.example.expert.domain.manager.dto.response.ManagerResponse(m.id, u.id, u.email) " +
+            "FROM Manager m JOIN m.user u WHERE m.todo.id = :todoId")
+    List<ManagerResponse> findResponsesByTodoId(@Param("todoId") Long todoId);
+
+    // 내보내기용. (todoId, id) keyset 으로 pageable 크기만큼씩 이어서 읽습니다.
+    @Query("SELECT new org.example.expert.domain.manager.dto.response.ManagerExportRow(m.todo.id, m.id, u.id, u.email) " +
+            "FROM Manager m JOIN m.user u WHERE m.todo.id IN :todoIds " +
+            "AND (m.todo.id > :afterTodoId OR (m.todo.id = :afterTodoId AND m.id > :afterId)) " +
+            "ORDER BY m.todo.id, m.id")
+    List<ManagerExportRow> findExportRowsByTodoIdInAfter(@Param("todoIds") Collection<Long> todoIds,
+                                                         @Param("afterTodoId") Long afterTodoId,
+                                                         @Param("afterId") Long afterId,
+                                                         Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Manager m WHERE m.todo.id = :todoId")
+    int deleteAllByTodoId(@Param("todoId") Long todoId);
+
+    boolean existsByTodoIdAndUserId(Long todoId, Long userId);
 }
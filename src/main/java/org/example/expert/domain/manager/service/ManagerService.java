@@ -17,7 +17,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -48,8 +47,13 @@ public class ManagerService {
             throw new InvalidRequestException("일정 작성자는 본인을 담당자로 등록할 수 없습니다.");
         }
 
+        if (managerRepository.existsByTodoIdAndUserId(todoId, managerUser.getId())) {
+            throw new InvalidRequestException("이미 등록된 담당자입니다.");
+        }
+
         Manager newManagerUser = new Manager(managerUser, todo);
         Manager savedManagerUser = managerRepository.save(newManagerUser);
+        todoRepository.addManagerCount(todoId, 1);
 
         return new ManagerSaveResponse(
                 savedManagerUser.getId(),
@@ -58,20 +62,11 @@ public class ManagerService {
     }
 
     public List<ManagerResponse> getManagers(long todoId) {
-        Todo todo = todoRepository.findById(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
-
-        List<Manager> managerList = managerRepository.findByTodoIdWithUser(todo.getId());
-
-        List<ManagerResponse> dtoList = new ArrayList<>();
-        for (Manager manager : managerList) {
-            User user = manager.getUser();
-            dtoList.add(new ManagerResponse(
-                    manager.getId(),
-                    new UserResponse(user.getId(), user.getEmail())
-            ));
+        if (!todoRepository.existsById(todoId)) {
+            throw new InvalidRequestException("Todo not found");
         }
-        return dtoList;
+
+        return managerRepository.findResponsesByTodoId(todoId);
     }
 
     @Transactional
@@ -94,5 +89,6 @@ public class ManagerService {
         }
 
         managerRepository.delete(manager);
+        todoRepository.addManagerCount(todoId, -1);
     }
 }
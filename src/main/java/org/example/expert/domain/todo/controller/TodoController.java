@@ -1,22 +1,35 @@
 package org.example.expert.domain.todo.controller;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.todo.dto.request.TodoBatchSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchSaveResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.service.TodoBatchService;
+import org.example.expert.domain.todo.service.TodoExportService;
+import org.example.expert.domain.todo.service.TodoReadCoalescer;
 import org.example.expert.domain.todo.service.TodoService;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
 @RestController
 @RequiredArgsConstructor
 public class TodoController {
 
     private final TodoService todoService;
+    private final TodoBatchService todoBatchService;
+    private final TodoExportService todoExportService;
+    private final TodoReadCoalescer todoReadCoalescer;
 
     @PostMapping("/todos")
     public ResponseEntity<TodoSaveResponse> saveTodo(
@@ -26,6 +39,15 @@ public class TodoController {
         return ResponseEntity.ok(todoService.saveTodo(authUser, todoSaveRequest));
     }
 
+    // 항목별로 저장 결과를 돌려주므로 일부가 실패해도 200 으로 응답합니다.
+    @PostMapping("/todos/batch")
+    public ResponseEntity<TodoBatchSaveResponse> saveTodos(
+            @Auth AuthUser authUser,
+            @Valid @RequestBody TodoBatchSaveRequest todoBatchSaveRequest
+    ) {
+        return ResponseEntity.ok(todoBatchService.saveTodos(authUser, todoBatchSaveRequest));
+    }
+
     @GetMapping("/todos")
     public ResponseEntity<Page<TodoResponse>> getTodos(
             @RequestParam(defaultValue = "1") int page,
@@ -34,8 +56,31 @@ public class TodoController {
         return ResponseEntity.ok(todoService.getTodos(page, size));
     }
 
+    // cursor 파라미터가 있으면 커서 방식으로 조회합니다. 첫 페이지는 빈 값(?cursor=)으로 요청합니다.
+    @GetMapping(value = "/todos", params = "cursor")
+    public ResponseEntity<CursorResponse<TodoResponse>> getTodosByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(todoService.getTodosByCursor(cursor, size));
+    }
+
+    // 결과를 모으지 않고 응답 스트림에 바로 씁니다. 비동기 요청 타임아웃에 걸리지 않도록 요청 스레드에서 처리합니다.
+    @GetMapping("/todos/export")
+    public void exportTodos(HttpServletResponse response) throws IOException {
+        response.setContentType(TodoExportService.NDJSON_CONTENT_TYPE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        todoExportService.exportTodos(response.getOutputStream());
+    }
+
+    // 같은 일정을 동시에 조회하면 DB 조회 한 번의 결과를 같이 받습니다.
     @GetMapping("/todos/{todoId}")
     public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
-        return ResponseEntity.ok(todoService.getTodo(todoId));
+        return ResponseEntity.ok(todoReadCoalescer.getTodo(todoId));
+    }
+
+    @DeleteMapping("/todos/{todoId}")
+    public void deleteTodo(@Auth AuthUser authUser, @PathVariable long todoId) {
+        todoService.deleteTodo(authUser, todoId);
     }
 }
@@ -0,0 +1,22 @@
+package org.example.expert.domain.todo.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 항목별 검증은 TodoBatchService 에서 하고, 실패한 항목만 결과에 담아 돌려줍니다.
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoBatchSaveRequest {
+
+    public static final int MAX_SIZE = 1000;
+
+    @NotEmpty
+    @Size(max = MAX_SIZE)
+    private List<TodoSaveRequest> todos;
+}
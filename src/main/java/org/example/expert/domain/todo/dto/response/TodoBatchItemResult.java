@@ -0,0 +1,28 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+// 요청 목록의 index 번째 항목의 처리 결과입니다. 성공하면 todo, 실패하면 message 가 채워집니다.
+@Getter
+public class TodoBatchItemResult {
+
+    private final int index;
+    private final boolean success;
+    private final TodoSaveResponse todo;
+    private final String message;
+
+    private TodoBatchItemResult(int index, boolean success, TodoSaveResponse todo, String message) {
+        this.index = index;
+        this.success = success;
+        this.todo = todo;
+        this.message = message;
+    }
+
+    public static TodoBatchItemResult saved(int index, TodoSaveResponse todo) {
+        return new TodoBatchItemResult(index, true, todo, null);
+    }
+
+    public static TodoBatchItemResult failed(int index, String message) {
+        return new TodoBatchItemResult(index, false, null, message);
+    }
+}
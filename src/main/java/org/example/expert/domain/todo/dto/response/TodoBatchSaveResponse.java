@@ -0,0 +1,25 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TodoBatchSaveResponse {
+
+    private final int savedCount;
+    private final int failedCount;
+    private final List<TodoBatchItemResult> results;
+
+    public TodoBatchSaveResponse(List<TodoBatchItemResult> results) {
+        int saved = 0;
+        for (TodoBatchItemResult result : results) {
+            if (result.isSuccess()) {
+                saved++;
+            }
+        }
+        this.savedCount = saved;
+        this.failedCount = results.size() - saved;
+        this.results = results;
+    }
+}
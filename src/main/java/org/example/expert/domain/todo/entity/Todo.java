@@ -3,6 +3,8 @@ package org.example.expert.domain.todo.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.manager.entity.Manager;
@@ -14,10 +16,18 @@ import java.util.List;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "todos")
+@Table(name = "todos", indexes = {
+        // GET /todos 커서 조회 (modified_at, id) 역순 탐색용
+        @Index(name = "idx_todos_modified_at_id", columnList = "modified_at, id")
+})
+// 자주 바뀌는 댓글/담당자 수는 TodoCounter(todo_counters)에 따로 두어, 카운터 증감이 todo region 을 비우지 않게 합니다.
+// 일정 삭제는 벌크 delete 라 todo region 전체를 비웁니다.
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "todo")
 public class Todo extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todo_seq")
+    @SequenceGenerator(name = "todo_seq", sequenceName = "todos_seq", allocationSize = 50)
     private Long id;
     private String title;
     private String contents;
@@ -27,9 +37,15 @@ public class Todo extends Timestamped {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @OneToMany(mappedBy = "todo", cascade = CascadeType.REMOVE)
+    // 목록 화면용 카운터. 일정을 저장할 때 같이 저장됩니다.
+    @OneToOne(mappedBy = "todo", fetch = FetchType.LAZY, optional = false, cascade = CascadeType.PERSIST)
+    private TodoCounter counter;
+
+    // 일정 삭제 시 댓글은 TodoService.deleteTodo 에서 벌크 delete 로 지웁니다. (CascadeType.REMOVE 는 댓글을 전부 읽어 한 건씩 지움)
+    @OneToMany(mappedBy = "todo")
     private List<Comment> comments = new ArrayList<>();
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "todo-managers")
     @OneToMany(mappedBy = "todo", cascade = CascadeType.PERSIST)
     private List<Manager> managers = new ArrayList<>();
 
@@ -39,6 +55,15 @@ public class Todo extends Timestamped {
         this.weather = weather;
         this.user = user;
         this.managers.add(new Manager(user, this));
+        this.counter = new TodoCounter(this, 1);
+    }
+
+    public int getCommentCount() {
+        return counter == null ? 0 : counter.getCommentCount();
+    }
+
+    public int getManagerCount() {
+        return counter == null ? 0 : counter.getManagerCount();
     }
 
     public void update(String title, String contents) {
@@ -0,0 +1,40 @@
+package org.example.expert.domain.todo.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+// 일정의 댓글/담당자 수. TodoRepository 의 벌크 UPDATE 로 증감하는데, 벌크 쿼리는 대상 엔티티의 2차 캐시 region 을 통째로 비우므로
+// 캐시하는 Todo 와 다른 테이블로 나누고 이 엔티티는 캐시하지 않습니다. id 는 일정 id 를 그대로 쓰고, 일정이 지워지면 DB 가 같이 지웁니다.
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "todo_counters")
+public class TodoCounter {
+
+    @Id
+    private Long todoId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "todo_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Todo todo;
+
+    // 증감 쿼리로만 바꾸고, 엔티티 update 가 오래된 값으로 덮어쓰지 않도록 updatable = false 로 둡니다.
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int commentCount;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int managerCount;
+
+    TodoCounter(Todo todo, int managerCount) {
+        this.todo = todo;
+        this.managerCount = managerCount;
+    }
+}
@@ -1,23 +1,75 @@
 package org.example.expert.domain.todo.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface TodoRepository extends JpaRepository<Todo, Long> {
 
-    @Query("SELECT t FROM Todo t LEFT JOIN FETCH t.user u ORDER BY t.modifiedAt DESC")
-    Page<Todo> findAllByOrderByModifiedAtDesc(Pageable pageable);
+    // 목록 조회는 엔티티를 거치지 않고 필요한 컬럼만 TodoResponse 로 바로 받습니다.
+    // todo_counters 행이 없는 일정(카운터 분리 전 데이터)도 빠지지 않도록 카운터는 LEFT JOIN 하고 없으면 0 으로 봅니다.
+    @Query(value = "SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, COALESCE(c.commentCount, 0), COALESCE(c.managerCount, 0), t.createdAt, t.modifiedAt) " +
+            "FROM Todo t JOIN t.user u LEFT JOIN t.counter c ORDER BY t.modifiedAt DESC",
+            countQuery = "SELECT COUNT(t) FROM Todo t")
+    Page<TodoResponse> findAllByOrderByModifiedAtDesc(Pageable pageable);
+
+    // 커서 방식은 Slice 로 받아 count 쿼리 없이 size + 1 건만 조회합니다.
+    @Query("SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, COALESCE(c.commentCount, 0), COALESCE(c.managerCount, 0), t.createdAt, t.modifiedAt) " +
+            "FROM Todo t JOIN t.user u LEFT JOIN t.counter c ORDER BY t.modifiedAt DESC, t.id DESC")
+    Slice<TodoResponse> findFirstSliceByOrderByModifiedAtDesc(Pageable pageable);
+
+    @Query("SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, COALESCE(c.commentCount, 0), COALESCE(c.managerCount, 0), t.createdAt, t.modifiedAt) " +
+            "FROM Todo t JOIN t.user u LEFT JOIN t.counter c " +
+            "WHERE t.modifiedAt < :modifiedAt OR (t.modifiedAt = :modifiedAt AND t.id < :id) " +
+            "ORDER BY t.modifiedAt DESC, t.id DESC")
+    Slice<TodoResponse> findSliceAfterCursor(@Param("modifiedAt") LocalDateTime modifiedAt, @Param("id") Long id, Pageable pageable);
 
     @Query("SELECT t FROM Todo t " +
             "LEFT JOIN FETCH t.user " +
+            "LEFT JOIN FETCH t.counter " +
             "WHERE t.id = :todoId")
     Optional<Todo> findByIdWithUser(@Param("todoId") Long todoId);
 
     int countById(Long todoId);
+
+    // 삭제 권한 확인용. 일정 엔티티를 영속성 컨텍스트에 올리지 않고 작성자 id 만 읽습니다.
+    @Query("SELECT t.user.id FROM Todo t WHERE t.id = :todoId")
+    Optional<Long> findUserIdById(@Param("todoId") Long todoId);
+
+    @Modifying
+    @Query("DELETE FROM Todo t WHERE t.id = :todoId")
+    int deleteByIdInBulk(@Param("todoId") Long todoId);
+
+    // 댓글/담당자 수는 DB 에서 바로 증감해 동시에 여러 요청이 와도 값을 잃지 않습니다. modifiedAt 은 바꾸지 않습니다.
+    // todos 가 아닌 todo_counters 만 바꾸므로 캐시된 일정은 그대로 남습니다.
+    @Modifying
+    @Query("UPDATE TodoCounter c SET c.commentCount = c.commentCount + :delta WHERE c.todoId = :todoId")
+    int addCommentCount(@Param("todoId") Long todoId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("UPDATE TodoCounter c SET c.managerCount = c.managerCount + :delta WHERE c.todoId = :todoId")
+    int addManagerCount(@Param("todoId") Long todoId, @Param("delta") int delta);
+
+    // 내보내기용. 결과를 한 번에 메모리에 올리지 않고 커서로 fetch size 만큼씩 읽습니다. 트랜잭션 안에서 사용하고 반드시 close 해야 합니다.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, COALESCE(c.commentCount, 0), COALESCE(c.managerCount, 0), t.createdAt, t.modifiedAt) " +
+            "FROM Todo t JOIN t.user u LEFT JOIN t.counter c ORDER BY t.id")
+    Stream<TodoResponse> streamAllForExport();
 }
@@ -0,0 +1,130 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.request.TodoBatchSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchItemResult;
+import org.example.expert.domain.todo.dto.response.TodoBatchSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+// 일정 여러 건을 chunk 단위 트랜잭션으로 나눠 저장합니다.
+// chunk 안의 insert 는 flush 시점에 JDBC 배치로 나가고, chunk 가 끝나면 영속성 컨텍스트를 비워 메모리가 쌓이지 않게 합니다.
+@Slf4j
+@Service
+public class TodoBatchService {
+
+    private static final String CHUNK_FAILED_MESSAGE = "일정 저장에 실패했습니다.";
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final WeatherClient weatherClient;
+    private final Validator validator;
+    private final int chunkSize;
+
+    public TodoBatchService(
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            WeatherClient weatherClient,
+            Validator validator,
+            @Value("${todo.batch.chunk-size:500}") int chunkSize
+    ) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.weatherClient = weatherClient;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+    }
+
+    // 날씨는 요청 전체에 대해 한 번만 조회합니다. 한 chunk 가 실패해도 이미 커밋된 chunk 는 유지됩니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TodoBatchSaveResponse saveTodos(AuthUser authUser, TodoBatchSaveRequest todoBatchSaveRequest) {
+        User user = User.fromAuthUser(authUser);
+        List<TodoSaveRequest> items = todoBatchSaveRequest.getTodos();
+        TodoBatchItemResult[] results = new TodoBatchItemResult[items.size()];
+
+        List<Integer> validIndexes = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            String violation = validate(items.get(i));
+            if (violation == null) {
+                validIndexes.add(i);
+            } else {
+                results[i] = TodoBatchItemResult.failed(i, violation);
+            }
+        }
+
+        if (!validIndexes.isEmpty()) {
+            String weather = weatherClient.getTodayWeather();
+            for (int from = 0; from < validIndexes.size(); from += chunkSize) {
+                List<Integer> chunk = validIndexes.subList(from, Math.min(from + chunkSize, validIndexes.size()));
+                saveChunk(user, weather, items, chunk, results);
+            }
+        }
+
+        return new TodoBatchSaveResponse(Arrays.asList(results));
+    }
+
+    private void saveChunk(User user, String weather, List<TodoSaveRequest> items, List<Integer> chunk, TodoBatchItemResult[] results) {
+        UserResponse userResponse = new UserResponse(user.getId(), user.getEmail());
+        try {
+            List<Todo> saved = transactionTemplate.execute(status -> {
+                List<Todo> todos = new ArrayList<>(chunk.size());
+                for (int index : chunk) {
+                    TodoSaveRequest item = items.get(index);
+                    Todo todo = new Todo(item.getTitle(), item.getContents(), weather, user);
+                    entityManager.persist(todo);
+                    todos.add(todo);
+                }
+                entityManager.flush();
+                entityManager.clear();
+                return todos;
+            });
+
+            for (int i = 0; i < chunk.size(); i++) {
+                Todo todo = saved.get(i);
+                results[chunk.get(i)] = TodoBatchItemResult.saved(chunk.get(i), new TodoSaveResponse(
+                        todo.getId(),
+                        todo.getTitle(),
+                        todo.getContents(),
+                        weather,
+                        userResponse
+                ));
+            }
+        } catch (RuntimeException e) {
+            log.warn("일정 일괄 저장 중 chunk 저장에 실패했습니다. index {}~{}", chunk.get(0), chunk.get(chunk.size() - 1), e);
+            for (int index : chunk) {
+                results[index] = TodoBatchItemResult.failed(index, CHUNK_FAILED_MESSAGE);
+            }
+        }
+    }
+
+    private String validate(TodoSaveRequest item) {
+        if (item == null) {
+            return "일정 정보가 비어 있습니다.";
+        }
+        Set<ConstraintViolation<TodoSaveRequest>> violations = validator.validate(item);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        ConstraintViolation<TodoSaveRequest> violation = violations.iterator().next();
+        return violation.getPropertyPath() + " " + violation.getMessage();
+    }
+}
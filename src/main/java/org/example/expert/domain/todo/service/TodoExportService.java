@@ -0,0 +1,189 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.example.expert.domain.comment.dto.response.CommentExportRow;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.dto.response.ManagerExportRow;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.TodoExportResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+// 전체 일정을 NDJSON(한 줄에 일정 하나)으로 내보냅니다.
+// 일정은 커서로 읽고, chunk 단위로 담당자/댓글을 IN 쿼리로 붙여 쓴 뒤 flush 합니다.
+// 담당자/댓글은 chunk 전체를 한 번에 읽지 않고 (todoId, id) keyset 으로 childPageSize 만큼씩 일정 id 순서대로 따라가며 읽으므로,
+// 건수와 관계없이 메모리는 chunk 의 일정 + 하위 행 한 페이지(와 일정 하나의 하위 행)만큼만 사용합니다.
+@Service
+public class TodoExportService {
+
+    public static final String NDJSON_CONTENT_TYPE = "application/x-ndjson";
+
+    private final TodoRepository todoRepository;
+    private final ManagerRepository managerRepository;
+    private final CommentRepository commentRepository;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter lineWriter;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int chunkSize;
+    private final int childPageSize;
+
+    public TodoExportService(
+            TodoRepository todoRepository,
+            ManagerRepository managerRepository,
+            CommentRepository commentRepository,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${todo.export.chunk-size:500}") int chunkSize,
+            @Value("${todo.export.child-page-size:1000}") int childPageSize
+    ) {
+        this.todoRepository = todoRepository;
+        this.managerRepository = managerRepository;
+        this.commentRepository = commentRepository;
+        this.objectMapper = objectMapper;
+        // 줄마다 flush 하지 않고 chunk 를 다 쓴 뒤 한 번만 flush 합니다.
+        this.lineWriter = objectMapper.writerFor(TodoExportResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.chunkSize = chunkSize;
+        this.childPageSize = childPageSize;
+    }
+
+    // 커서를 여는 동안 커넥션을 잡고 있어야 하므로 내보내기 전체를 하나의 읽기 전용 트랜잭션으로 실행합니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void exportTodos(OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<TodoResponse> todos = todoRepository.streamAllForExport()) {
+                    List<TodoResponse> chunk = new ArrayList<>(chunkSize);
+                    Iterator<TodoResponse> iterator = todos.iterator();
+                    while (iterator.hasNext()) {
+                        chunk.add(iterator.next());
+                        if (chunk.size() == chunkSize) {
+                            writeChunk(generator, chunk);
+                            chunk.clear();
+                        }
+                    }
+                    if (!chunk.isEmpty()) {
+                        writeChunk(generator, chunk);
+                    }
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void writeChunk(JsonGenerator generator, List<TodoResponse> chunk) {
+        List<Long> todoIds = new ArrayList<>(chunk.size());
+        for (TodoResponse todo : chunk) {
+            todoIds.add(todo.getId());
+        }
+
+        ChildRows<ManagerExportRow, ManagerResponse> managers = new ChildRows<>(
+                managerRepository::findExportRowsByTodoIdInAfter, todoIds,
+                ManagerExportRow::getTodoId, row -> row.getManager().getId(), ManagerExportRow::getManager);
+        ChildRows<CommentExportRow, CommentResponse> comments = new ChildRows<>(
+                commentRepository::findExportRowsByTodoIdInAfter, todoIds,
+                CommentExportRow::getTodoId, row -> row.getComment().getId(), CommentExportRow::getComment);
+
+        try {
+            for (TodoResponse todo : chunk) {
+                lineWriter.writeValue(generator, new TodoExportResponse(
+                        todo,
+                        managers.takeFor(todo.getId()),
+                        comments.takeFor(todo.getId())
+                ));
+                generator.writeRaw('\n');
+            }
+            generator.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private interface ChildRowQuery<R> {
+        List<R> find(List<Long> todoIds, Long afterTodoId, Long afterId, Pageable pageable);
+    }
+
+    // chunk 의 일정 id 오름차순과 같은 순서로 (todoId, id) 정렬된 하위 행을 한 페이지씩 읽으며 일정 하나분씩 꺼내 줍니다.
+    private final class ChildRows<R, T> {
+
+        private final ChildRowQuery<R> query;
+        private final List<Long> todoIds;
+        private final Function<R, Long> todoIdOf;
+        private final Function<R, Long> idOf;
+        private final Function<R, T> valueOf;
+        private List<R> page = List.of();
+        private int index;
+        private boolean lastPage;
+
+        ChildRows(ChildRowQuery<R> query, List<Long> todoIds,
+                  Function<R, Long> todoIdOf, Function<R, Long> idOf, Function<R, T> valueOf) {
+            this.query = query;
+            this.todoIds = todoIds;
+            this.todoIdOf = todoIdOf;
+            this.idOf = idOf;
+            this.valueOf = valueOf;
+        }
+
+        // takeFor 는 chunk 의 일정 순서대로 호출되어야 합니다.
+        List<T> takeFor(Long todoId) {
+            List<T> values = new ArrayList<>();
+            while (true) {
+                if (index == page.size()) {
+                    if (lastPage) {
+                        break;
+                    }
+                    fetchNextPage();
+                    continue;
+                }
+                R row = page.get(index);
+                if (!todoId.equals(todoIdOf.apply(row))) {
+                    break;
+                }
+                values.add(valueOf.apply(row));
+                index++;
+            }
+            return values;
+        }
+
+        private void fetchNextPage() {
+            Long afterTodoId = 0L;
+            Long afterId = 0L;
+            if (!page.isEmpty()) {
+                R last = page.get(page.size() - 1);
+                afterTodoId = todoIdOf.apply(last);
+                afterId = idOf.apply(last);
+            }
+            page = query.find(todoIds, afterTodoId, afterId, PageRequest.of(0, childPageSize));
+            index = 0;
+            lastPage = page.size() < childPageSize;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+// 같은 일정 id 로 동시에 들어온 단건 조회를 하나로 묶습니다. (single-flight)
+// 먼저 들어온 요청 하나만 TodoService.getTodo 로 DB 를 읽고, 그동안 들어온 요청은 그 결과(또는 예외)를 같이 받습니다.
+// todo.read.coalesce-window-ms 를 주면 성공한 결과를 그 시간 동안 더 돌려줍니다. 그만큼 수정/삭제가 늦게 보일 수 있으므로 기본값은 0 입니다.
+@Component
+public class TodoReadCoalescer {
+
+    private final TodoService todoService;
+    private final long windowMillis;
+    private final Executor evictionExecutor;
+    private final ConcurrentMap<Long, CompletableFuture<TodoResponse>> flights = new ConcurrentHashMap<>();
+    private final Counter coalescedCounter;
+
+    public TodoReadCoalescer(
+            TodoService todoService,
+            @Value("${todo.read.coalesce-window-ms:0}") long windowMillis
+    ) {
+        this.todoService = todoService;
+        this.windowMillis = windowMillis;
+        this.evictionExecutor = CompletableFuture.delayedExecutor(windowMillis, TimeUnit.MILLISECONDS);
+        this.coalescedCounter = Counter.builder("todo.read.coalesced")
+                .description("진행 중인(또는 보관 중인) 조회 결과를 같이 받은 단건 조회 수")
+                .register(Metrics.globalRegistry);
+    }
+
+    public TodoResponse getTodo(long todoId) {
+        CompletableFuture<TodoResponse> flight = new CompletableFuture<>();
+        CompletableFuture<TodoResponse> existing = flights.putIfAbsent(todoId, flight);
+        if (existing != null) {
+            coalescedCounter.increment();
+            return await(existing);
+        }
+
+        // Error 를 포함해 어떤 실패든 기다리던 요청에 전달하고 바로 비웁니다. 남겨 두면 이후 같은 id 조회가 모두 join 에서 멈춥니다.
+        boolean loaded = false;
+        try {
+            TodoResponse todo = todoService.getTodo(todoId);
+            flight.complete(todo);
+            loaded = true;
+            return todo;
+        } catch (Throwable e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            release(todoId, flight, loaded);
+        }
+    }
+
+    // 성공한 결과만 보관 시간 동안 남겨 둡니다.
+    private void release(long todoId, CompletableFuture<TodoResponse> flight, boolean loaded) {
+        if (loaded && windowMillis > 0) {
+            evictionExecutor.execute(() -> flights.remove(todoId, flight));
+        } else {
+            flights.remove(todoId, flight);
+        }
+    }
+
+    private static TodoResponse await(CompletableFuture<TodoResponse> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
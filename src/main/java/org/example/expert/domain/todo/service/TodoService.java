@@ -3,7 +3,10 @@ package org.example.expert.domain.todo.service;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.client.WeatherClient;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
@@ -14,8 +17,11 @@ import org.example.expert.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ObjectUtils;
 
 @Service
 @RequiredArgsConstructor
@@ -24,8 +30,13 @@ public class TodoService {
 
     private final TodoRepository todoRepository;
     private final WeatherClient weatherClient;
+    private final CommentRepository commentRepository;
+    private final ManagerRepository managerRepository;
 
-    @Transactional
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // 날씨 조회는 트랜잭션 밖에서 먼저 끝내고, 커넥션은 todoRepository.save 의 insert 동안에만 사용합니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
         User user = User.fromAuthUser(authUser);
 
@@ -51,17 +62,30 @@ public class TodoService {
     public Page<TodoResponse> getTodos(int page, int size) {
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        Page<Todo> todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
+        return todoRepository.findAllByOrderByModifiedAtDesc(pageable);
+    }
 
-        return todos.map(todo -> new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        ));
+    public CursorResponse<TodoResponse> getTodosByCursor(String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("size 는 1 이상 " + MAX_PAGE_SIZE + " 이하로 요청해주세요.");
+        }
+
+        Pageable pageable = PageRequest.of(0, size);
+
+        Slice<TodoResponse> todos;
+        if (cursor == null || cursor.isBlank()) {
+            todos = todoRepository.findFirstSliceByOrderByModifiedAtDesc(pageable);
+        } else {
+            TodoCursor todoCursor = TodoCursor.decode(cursor);
+            todos = todoRepository.findSliceAfterCursor(todoCursor.getModifiedAt(), todoCursor.getId(), pageable);
+        }
+
+        String nextCursor = null;
+        if (todos.hasNext()) {
+            TodoResponse last = todos.getContent().get(todos.getNumberOfElements() - 1);
+            nextCursor = new TodoCursor(last.getModifiedAt(), last.getId()).encode();
+        }
+        return new CursorResponse<>(todos.getContent(), nextCursor, todos.hasNext());
     }
 
     public TodoResponse getTodo(long todoId) {
@@ -76,8 +100,25 @@ public class TodoService {
                 todo.getContents(),
                 todo.getWeather(),
                 new UserResponse(user.getId(), user.getEmail()),
+                todo.getCommentCount(),
+                todo.getManagerCount(),
                 todo.getCreatedAt(),
                 todo.getModifiedAt()
         );
     }
+
+    // 댓글/담당자를 엔티티로 읽지 않고 todo_id 조건의 벌크 delete 로 지웁니다. 댓글 수와 관계없이 쿼리는 4번입니다.
+    @Transactional
+    public void deleteTodo(AuthUser authUser, long todoId) {
+        Long ownerId = todoRepository.findUserIdById(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+
+        if (!ObjectUtils.nullSafeEquals(authUser.getId(), ownerId)) {
+            throw new InvalidRequestException("일정을 만든 유저만 삭제할 수 있습니다.");
+        }
+
+        commentRepository.deleteAllByTodoId(todoId);
+        managerRepository.deleteAllByTodoId(todoId);
+        todoRepository.deleteByIdInBulk(todoId);
+    }
 }
@@ -1,44 +1,72 @@
 package org.example.expert.domain.user.service;
 
-import lombok.RequiredArgsConstructor;
-import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.PasswordHasher;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    // 해시가 끝난 뒤의 저장은 이 풀에서 실행합니다. 해시 풀(코어 수)이 DB 대기로 묶이지 않게 합니다.
+    private final Executor taskExecutor;
+
+    public UserService(
+            UserRepository userRepository,
+            PasswordHasher passwordHasher,
+            @Qualifier("applicationTaskExecutor") Executor taskExecutor
+    ) {
+        this.userRepository = userRepository;
+        this.passwordHasher = passwordHasher;
+        this.taskExecutor = taskExecutor;
+    }
 
     public UserResponse getUser(long userId) {
         User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
         return new UserResponse(user.getId(), user.getEmail());
     }
 
-    @Transactional
-    public void changePassword(long userId, UserChangePasswordRequest userChangePasswordRequest) {
+    // 조회만 요청 스레드에서 하고, 해시 비교/생성은 PasswordHasher 스레드에서 이어 붙입니다.
+    // 저장은 taskExecutor 에서 updatePasswordIfUnchanged 의 짧은 트랜잭션으로만 하므로, 해시 동안 요청 스레드와 커넥션을 잡고 있지 않습니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<Void> changePassword(long userId, UserChangePasswordRequest userChangePasswordRequest) {
         validatePassword(userChangePasswordRequest);
 
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new InvalidRequestException("User not found"));
+        String currentPassword = user.getPassword();
 
-        if (passwordEncoder.matches(userChangePasswordRequest.getNewPassword(), user.getPassword())) {
-            throw new InvalidRequestException("새 비밀번호는 기존 비밀번호와 같을 수 없습니다.");
-        }
-
-        if (!passwordEncoder.matches(userChangePasswordRequest.getOldPassword(), user.getPassword())) {
-            throw new InvalidRequestException("잘못된 비밀번호입니다.");
-        }
-
-        user.changePassword(passwordEncoder.encode(userChangePasswordRequest.getNewPassword()));
+        return passwordHasher.matches(userChangePasswordRequest.getNewPassword(), currentPassword)
+                .thenCompose(sameAsCurrent -> {
+                    if (sameAsCurrent) {
+                        throw new InvalidRequestException("새 비밀번호는 기존 비밀번호와 같을 수 없습니다.");
+                    }
+                    return passwordHasher.matches(userChangePasswordRequest.getOldPassword(), currentPassword);
+                })
+                .thenCompose(matches -> {
+                    if (!matches) {
+                        throw new InvalidRequestException("잘못된 비밀번호입니다.");
+                    }
+                    return passwordHasher.encode(userChangePasswordRequest.getNewPassword());
+                })
+                .thenAcceptAsync(encodedPassword -> {
+                    // 해시하는 동안 다른 요청이 비밀번호를 바꿨다면 덮어쓰지 않습니다.
+                    if (userRepository.updatePasswordIfUnchanged(userId, currentPassword, encodedPassword) == 0) {
+                        throw new InvalidRequestException("비밀번호가 그사이 변경되었습니다. 다시 시도해주세요.");
+                    }
+                }, taskExecutor);
     }
 
     private static void validatePassword(UserChangePasswordRequest userChangePasswordRequest) {
@@ -1,13 +1,31 @@
 package org.example.expert;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+// JWT_SECRET_KEY 환경 변수 없이도 컨텍스트가 뜨도록 테스트용 키(32바이트 0)를 직접 넣습니다.
+@SpringBootTest(properties = "jwt.secret.key=AAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA=")
 class ExpertApplicationTests {
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Test
     void contextLoads() {
     }
 
+    @Test
+    void 날씨_API_서킷_상태가_메트릭으로_노출된다() {
+        assertNotNull(meterRegistry.find("resilience4j.circuitbreaker.state").tag("name", "weather").gauge());
+    }
+
+    @Test
+    void 동시_처리_한도가_Spring_MeterRegistry_에_노출된다() {
+        assertNotNull(meterRegistry.find("http.server.concurrency.limit").tag("lane", "default").gauge());
+    }
+
 }
@@ -0,0 +1,125 @@
+package org.example.expert.aop;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccessLogRingBufferTest {
+
+    @Test
+    void 넣은_순서대로_꺼낸다() {
+        // given
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(4);
+        buffer.offer(1L, 10L, "GET", "/a");
+        buffer.offer(2L, AccessLogRecord.NO_USER, "DELETE", "/b");
+
+        // when
+        List<String> drained = new ArrayList<>();
+        int count = buffer.drain(record -> drained.add(record.timestampMillis + " " + record.userId + " " + record.method + " " + record.uri), 10);
+
+        // then
+        assertEquals(2, count);
+        assertEquals(List.of("1 10 GET /a", "2 -1 DELETE /b"), drained);
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    void 가득_차면_새_로그를_버리고_버린_수를_센다() {
+        // given
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(2);
+        assertTrue(buffer.offer(1L, 1L, "GET", "/1"));
+        assertTrue(buffer.offer(2L, 1L, "GET", "/2"));
+
+        // when
+        boolean offered = buffer.offer(3L, 1L, "GET", "/3");
+
+        // then
+        assertFalse(offered);
+        assertEquals(1, buffer.droppedCount());
+
+        // 비우면 같은 칸을 다시 씁니다.
+        assertEquals(2, buffer.drain(record -> {}, 10));
+        assertTrue(buffer.offer(4L, 1L, "GET", "/4"));
+        List<Long> timestamps = new ArrayList<>();
+        buffer.drain(record -> timestamps.add(record.timestampMillis), 10);
+        assertEquals(List.of(4L), timestamps);
+    }
+
+    @Test
+    void 한_번에_maxRecords_건까지만_꺼낸다() {
+        // given
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(8);
+        for (int i = 0; i < 5; i++) {
+            buffer.offer(i, 1L, "GET", "/");
+        }
+
+        // when & then
+        assertEquals(3, buffer.drain(record -> {}, 3));
+        assertEquals(2, buffer.drain(record -> {}, 3));
+        assertEquals(0, buffer.drain(record -> {}, 3));
+    }
+
+    @Test
+    void 여러_스레드가_동시에_넣어도_넣은_로그는_한_번씩만_꺼낸다() throws Exception {
+        // given
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(1024);
+        int producers = 8;
+        int perProducer = 20_000;
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(producers);
+        AtomicInteger accepted = new AtomicInteger();
+        for (int p = 0; p < producers; p++) {
+            long base = (long) p * perProducer;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < perProducer; i++) {
+                        if (buffer.offer(base + i, 1L, "GET", "/")) {
+                            accepted.incrementAndGet();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+            thread.start();
+        }
+
+        // when
+        Set<Long> seen = new HashSet<>();
+        AtomicInteger duplicates = new AtomicInteger();
+        start.countDown();
+        while (!done.await(0, TimeUnit.MILLISECONDS)) {
+            buffer.drain(record -> {
+                if (!seen.add(record.timestampMillis)) {
+                    duplicates.incrementAndGet();
+                }
+            }, 256);
+        }
+        buffer.drain(record -> {
+            if (!seen.add(record.timestampMillis)) {
+                duplicates.incrementAndGet();
+            }
+        }, Integer.MAX_VALUE);
+
+        // then
+        assertEquals(0, duplicates.get());
+        assertEquals(accepted.get(), seen.size());
+        assertEquals((long) producers * perProducer, accepted.get() + buffer.droppedCount());
+    }
+
+    @Test
+    void 크기는_2의_거듭제곱이어야_한다() {
+        assertThrows(IllegalArgumentException.class, () -> new AccessLogRingBuffer(1000));
+    }
+}
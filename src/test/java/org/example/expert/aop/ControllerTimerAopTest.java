@@ -0,0 +1,69 @@
+package org.example.expert.aop;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ControllerTimerAopTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SampleController controller;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new SampleController());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new ControllerTimerAop(meterRegistry));
+        controller = proxyFactory.getProxy();
+    }
+
+    @Test
+    void 컨트롤러_메서드별로_실행_시간을_기록한다() {
+        // when
+        controller.hello();
+        controller.hello();
+        controller.bye();
+
+        // then
+        assertEquals(2, timer("hello").count());
+        assertEquals(1, timer("bye").count());
+    }
+
+    @Test
+    void 예외가_나도_실행_시간을_기록한다() {
+        // when
+        assertThrows(IllegalStateException.class, () -> controller.fail());
+
+        // then
+        assertEquals(1, timer("fail").count());
+    }
+
+    private Timer timer(String method) {
+        return meterRegistry.get(ControllerTimerAop.METRIC_NAME)
+                .tag("controller", "SampleController")
+                .tag("method", method)
+                .timer();
+    }
+
+    @RestController
+    static class SampleController {
+
+        public String hello() {
+            return "hello";
+        }
+
+        public String bye() {
+            return "bye";
+        }
+
+        public String fail() {
+            throw new IllegalStateException("fail");
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package org.example.expert.client;
+
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// f-api.github.io 대신 로컬 스텁 HTTP 서버를 띄워 WeatherClient 를 검증합니다.
+class WeatherClientTest {
+
+    private HttpServer server;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private volatile int responseStatus = 200;
+    private volatile long responseDelayMs = 0;
+    private volatile String responseWeather = "Sunny";
+    private volatile String responseBody;
+    private volatile CountDownLatch requestArrived = new CountDownLatch(0);
+    private volatile CountDownLatch responseGate = new CountDownLatch(0);
+
+    private WeatherClient weatherClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/f-api/weather.json", exchange -> {
+            requestCount.incrementAndGet();
+            requestArrived.countDown();
+            await(responseGate);
+            sleep(responseDelayMs);
+            String json = responseBody != null ? responseBody : weatherJson(responseWeather);
+            byte[] body = json.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(responseStatus, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        server.start();
+
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .slidingWindowSize(2)
+                .minimumNumberOfCalls(2)
+                .failureRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofMinutes(1))
+                .build();
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        weatherClient = new WeatherClient(new RestTemplateBuilder(), CircuitBreakerRegistry.of(config), baseUrl, 500, 200);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void 날씨는_한_번만_가져오고_이후에는_캐시에서_조회() {
+        // when
+        String first = weatherClient.getTodayWeather();
+        String second = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("Sunny", first);
+        assertEquals("Sunny", second);
+        assertEquals(1, requestCount.get());
+    }
+
+    @Test
+    void 갱신에_실패하면_기존_캐시를_유지() {
+        // given
+        weatherClient.refreshWeather();
+        responseStatus = 500;
+
+        // when
+        weatherClient.refreshWeather();
+
+        // then
+        assertEquals("Sunny", weatherClient.getTodayWeather());
+        assertEquals(2, requestCount.get());
+    }
+
+    @Test
+    void 응답이_타임아웃보다_느리면_기본값을_반환() {
+        // given
+        responseDelayMs = 1000;
+
+        // when
+        String weather = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals(WeatherClient.FALLBACK_WEATHER, weather);
+    }
+
+    @Test
+    void 실패가_반복되면_서킷이_열리고_더_이상_호출하지_않는다() {
+        // given
+        responseStatus = 500;
+        weatherClient.getTodayWeather();
+        weatherClient.getTodayWeather();
+
+        // when
+        String weather = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals(WeatherClient.FALLBACK_WEATHER, weather);
+        assertEquals(CircuitBreaker.State.OPEN, weatherClient.getCircuitBreakerState());
+        assertEquals(2, requestCount.get());
+    }
+
+    @Test
+    void 날짜나_날씨가_빠진_항목은_건너뛰고_나머지로_캐시를_채운다() {
+        // given
+        String today = LocalDate.now().format(DateTimeFormatter.ofPattern("MM-dd"));
+        responseBody = "[{\"date\":null,\"weather\":\"Rainy\"},"
+                + "{\"date\":\"01-01\",\"weather\":null},"
+                + "{\"date\":\"" + today + "\",\"weather\":\"Sunny\"}]";
+
+        // when
+        String weather = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("Sunny", weather);
+    }
+
+    @Test
+    void 다른_스레드가_가져오는_중이면_기다리지_않고_기본값을_반환() throws Exception {
+        // given: 백그라운드 갱신이 날씨 API 응답을 기다리는 중
+        requestArrived = new CountDownLatch(1);
+        responseGate = new CountDownLatch(1);
+        Thread refresher = new Thread(weatherClient::refreshWeather);
+        refresher.start();
+        assertTrue(requestArrived.await(1, TimeUnit.SECONDS));
+
+        // when
+        String weather = assertTimeoutPreemptively(Duration.ofMillis(100), weatherClient::getTodayWeather);
+
+        // then
+        assertEquals(WeatherClient.FALLBACK_WEATHER, weather);
+        responseGate.countDown();
+        refresher.join();
+        assertEquals(1, requestCount.get());
+    }
+
+    private static String weatherJson(String weather) {
+        String today = LocalDate.now().format(DateTimeFormatter.ofPattern("MM-dd"));
+        return "[{\"date\":\"" + today + "\",\"weather\":\"" + weather + "\"}]";
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.expert.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AimdLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(1000);
+
+    @Test
+    void 한도만큼만_자리를_내준다() {
+        // given
+        AimdLimiter limiter = new AimdLimiter(2, 1, 10, 500, 0.5);
+
+        // when & then
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(2, limiter.inFlight());
+
+        limiter.release(FAST);
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    void 느린_응답이면_한도를_곱으로_줄이고_최소값_아래로는_내리지_않는다() {
+        // given
+        AimdLimiter limiter = new AimdLimiter(8, 2, 10, 500, 0.5);
+
+        // when & then
+        limiter.tryAcquire();
+        limiter.release(SLOW);
+        assertEquals(4, limiter.limit());
+
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire();
+            limiter.release(SLOW);
+        }
+        assertEquals(2, limiter.limit());
+    }
+
+    @Test
+    void 한도를_절반_이상_쓰는_중에_빠르게_끝나면_1씩_늘리고_최대값을_넘지_않는다() {
+        // given
+        AimdLimiter limiter = new AimdLimiter(4, 1, 5, 500, 0.5);
+
+        // when & then
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        limiter.release(FAST);
+        assertEquals(5, limiter.limit());
+
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        limiter.release(FAST);
+        assertEquals(5, limiter.limit());
+    }
+
+    @Test
+    void 한가할_때는_빠르게_끝나도_한도를_늘리지_않는다() {
+        // given
+        AimdLimiter limiter = new AimdLimiter(10, 1, 100, 500, 0.5);
+
+        // when
+        limiter.tryAcquire();
+        limiter.release(FAST);
+
+        // then
+        assertEquals(10, limiter.limit());
+    }
+
+    @Test
+    void 잘못된_한도_설정은_거부한다() {
+        assertThrows(IllegalArgumentException.class, () -> new AimdLimiter(1, 2, 10, 500, 0.5));
+        assertThrows(IllegalArgumentException.class, () -> new AimdLimiter(5, 1, 10, 500, 1.0));
+    }
+}
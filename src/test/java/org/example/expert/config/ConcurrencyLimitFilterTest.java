@@ -0,0 +1,137 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(
+            meterRegistry, lane -> new AimdLimiter(1, 1, 1, 500, 0.9), 3);
+
+    @Test
+    void 한도를_넘은_요청은_503_과_Retry_After_로_돌려보낸다() throws Exception {
+        // given
+        AtomicReference<MockHttpServletResponse> rejected = new AtomicReference<>();
+
+        // when: /todos 요청이 처리되는 동안 같은 레인의 요청이 하나 더 들어옵니다.
+        MockHttpServletResponse first = doFilter("/todos", servletThatCalls(() ->
+                rejected.set(doFilter("/todos/1", new MockFilterChain()))));
+
+        // then
+        assertEquals(200, first.getStatus());
+        assertEquals(503, rejected.get().getStatus());
+        assertEquals("3", rejected.get().getHeader("Retry-After"));
+        assertEquals(1.0, meterRegistry.get("http.server.concurrency.rejected").tag("lane", "default").counter().count());
+    }
+
+    @Test
+    void 조회_레인이_가득_차도_auth_와_admin_요청은_받는다() throws Exception {
+        // given
+        AtomicReference<MockHttpServletResponse> auth = new AtomicReference<>();
+        AtomicReference<MockHttpServletResponse> admin = new AtomicReference<>();
+
+        // when
+        doFilter("/todos", servletThatCalls(() -> {
+            auth.set(doFilter("/auth/signin", new MockFilterChain()));
+            admin.set(doFilter("/admin/comments/1", new MockFilterChain()));
+        }));
+
+        // then
+        assertEquals(200, auth.get().getStatus());
+        assertEquals(200, admin.get().getStatus());
+    }
+
+    @Test
+    void 내보내기와_일괄_요청은_BULK_레인을_써서_조회_레인의_한도를_줄이지_않는다() throws Exception {
+        // given: 모든 요청이 지연 기준(0ms)을 넘는 것으로 보이는 필터
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ConcurrencyLimitFilter slowFilter = new ConcurrencyLimitFilter(
+                registry, lane -> new AimdLimiter(10, 1, 10, 0, 0.5), 1);
+        AtomicReference<MockHttpServletResponse> list = new AtomicReference<>();
+
+        // when: 내보내기가 처리되는 동안 목록 조회가 들어오고, 이어서 일괄 저장이 처리됩니다.
+        MockHttpServletResponse export = new MockHttpServletResponse();
+        slowFilter.doFilter(new MockHttpServletRequest("GET", "/todos/export"), export, servletThatCalls(() -> {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            slowFilter.doFilter(new MockHttpServletRequest("GET", "/todos"), response, new MockFilterChain());
+            list.set(response);
+        }));
+        slowFilter.doFilter(new MockHttpServletRequest("POST", "/todos/batch"), new MockHttpServletResponse(), new MockFilterChain());
+
+        // then: 목록 조회 한 번만 DEFAULT 레인의 한도를 줄이고, 나머지는 BULK 레인에만 반영됩니다.
+        assertEquals(200, export.getStatus());
+        assertEquals(200, list.get().getStatus());
+        assertEquals(5.0, registry.get("http.server.concurrency.limit").tag("lane", "default").gauge().value());
+        assertEquals(2.0, registry.get("http.server.concurrency.limit").tag("lane", "bulk").gauge().value());
+    }
+
+    @Test
+    void 비동기_요청은_처리가_끝날_때_자리를_반납한다() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/signin");
+        request.setAsyncSupported(true);
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) {
+                req.startAsync();
+            }
+        });
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // when & then: 비동기 처리가 끝나기 전에는 같은 레인에 자리가 없습니다.
+        assertEquals(503, doFilter("/auth/signup", new MockFilterChain()).getStatus());
+
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+        assertEquals(200, doFilter("/auth/signup", new MockFilterChain()).getStatus());
+    }
+
+    @Test
+    void 처리_중_예외가_나도_자리를_반납한다() {
+        // given
+        MockFilterChain failing = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) {
+                throw new IllegalStateException("boom");
+            }
+        });
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> doFilter("/todos", failing));
+        assertDoesNotThrow(() -> assertEquals(200, doFilter("/todos", new MockFilterChain()).getStatus()));
+    }
+
+    private MockHttpServletResponse doFilter(String uri, MockFilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", uri), response, chain);
+        return response;
+    }
+
+    private MockFilterChain servletThatCalls(ThrowingRunnable inFlight) {
+        return new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) {
+                try {
+                    inFlight.run();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        });
+    }
+
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
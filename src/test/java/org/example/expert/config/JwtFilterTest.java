@@ -0,0 +1,102 @@
+package org.example.expert.config;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtFilterTest {
+
+    private JwtUtil jwtUtil;
+    private JwtFilter jwtFilter;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString(new byte[32]));
+        ReflectionTestUtils.setField(jwtUtil, "claimsCacheMaxSize", 100);
+        jwtUtil.init();
+        jwtFilter = new JwtFilter(jwtUtil);
+    }
+
+    @Test
+    void actuator_health_는_토큰_없이_통과한다() throws Exception {
+        // given
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        MockHttpServletResponse response = doFilter(new MockHttpServletRequest("GET", "/actuator/health"), chain);
+
+        // then
+        assertEquals(200, response.getStatus());
+        assertNotNull(chain.getRequest());
+    }
+
+    @Test
+    void 나머지_actuator_는_관리자만_볼_수_있다() throws Exception {
+        // given
+        MockFilterChain userChain = new MockFilterChain();
+        MockFilterChain adminChain = new MockFilterChain();
+
+        // when
+        MockHttpServletResponse userResponse = doFilter(request("/actuator/metrics", UserRole.USER), userChain);
+        MockHttpServletResponse adminResponse = doFilter(request("/actuator/metrics", UserRole.ADMIN), adminChain);
+
+        // then
+        assertEquals(403, userResponse.getStatus());
+        assertNull(userChain.getRequest());
+        assertEquals(200, adminResponse.getStatus());
+        assertNotNull(adminChain.getRequest());
+    }
+
+    @Test
+    void 토큰이_없으면_400을_반환한다() throws Exception {
+        // given
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        MockHttpServletResponse response = doFilter(new MockHttpServletRequest("GET", "/todos"), chain);
+
+        // then
+        assertEquals(400, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void 뒤쪽에서_난_예외를_토큰_오류로_바꾸지_않는다() {
+        // given
+        MockHttpServletRequest request = request("/todos", UserRole.USER);
+        MockFilterChain failingChain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws ServletException {
+                throw new ServletException("downstream");
+            }
+        });
+
+        // when & then
+        assertThrows(ServletException.class, () -> jwtFilter.doFilter(request, new MockHttpServletResponse(), failingChain));
+    }
+
+    private MockHttpServletRequest request(String uri, UserRole userRole) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.addHeader("Authorization", jwtUtil.createToken(1L, "a@a.com", userRole));
+        return request;
+    }
+
+    private MockHttpServletResponse doFilter(MockHttpServletRequest request, MockFilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        jwtFilter.doFilter(request, response, chain);
+        return response;
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.security.SignatureException;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilTest {
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString(new byte[32]));
+        ReflectionTestUtils.setField(jwtUtil, "claimsCacheMaxSize", 100);
+        jwtUtil.init();
+    }
+
+    @Test
+    void 같은_토큰은_캐시된_claims를_재사용() {
+        // given
+        String token = jwtUtil.substringToken(jwtUtil.createToken(1L, "a@a.com", UserRole.USER));
+
+        // when
+        Claims first = jwtUtil.extractClaims(token);
+        Claims second = jwtUtil.extractClaims(token);
+
+        // then
+        assertEquals("1", first.getSubject());
+        assertEquals("a@a.com", first.get("email"));
+        assertSame(first, second);
+    }
+
+    @Test
+    void 서명이_같아도_payload가_바뀐_토큰은_검증에_실패() {
+        // given
+        String token = jwtUtil.substringToken(jwtUtil.createToken(1L, "a@a.com", UserRole.USER));
+        jwtUtil.extractClaims(token);
+
+        String[] parts = token.split("\\.");
+        String forgedPayload = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("{\"sub\":\"2\",\"userRole\":\"ADMIN\",\"exp\":9999999999}".getBytes(StandardCharsets.UTF_8));
+        String forgedToken = parts[0] + "." + forgedPayload + "." + parts[2];
+
+        // when & then
+        assertThrows(SignatureException.class, () -> jwtUtil.extractClaims(forgedToken));
+    }
+}
@@ -1,11 +1,13 @@
 package org.example.expert.config;
 
+import at.favre.lib.crypto.bcrypt.BCrypt;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 
 @ExtendWith(SpringExtension.class)
 class PasswordEncoderTest {
@@ -25,4 +27,41 @@ class PasswordEncoderTest {
         // then
         assertTrue(matches);
     }
+
+    @Test
+    void 현재_cost보다_낮은_해시는_재해시_대상() {
+        // given
+        String oldHash = passwordEncoder.encode("testPassword");
+        ReflectionTestUtils.setField(passwordEncoder, "cost", BCrypt.MIN_COST + 1);
+
+        // when
+        boolean needsRehash = passwordEncoder.needsRehash(oldHash);
+
+        // then
+        assertTrue(needsRehash);
+        assertFalse(passwordEncoder.needsRehash(passwordEncoder.encode("testPassword")));
+        assertFalse(passwordEncoder.needsRehash("not-a-bcrypt-hash"));
+    }
+
+    @Test
+    void 설정된_cost가_있으면_보정하지_않고_그대로_사용() {
+        // given
+        ReflectionTestUtils.setField(passwordEncoder, "configuredCost", 5);
+
+        // when
+        passwordEncoder.init();
+
+        // then
+        assertEquals(5, passwordEncoder.getCost());
+        assertTrue(passwordEncoder.encode("testPassword").startsWith("$2a$05$"));
+    }
+
+    @Test
+    void 목표_시간이_매우_짧으면_최소_cost를_선택() {
+        // when
+        int cost = passwordEncoder.calibrate(0);
+
+        // then
+        assertEquals(BCrypt.MIN_COST, cost);
+    }
 }
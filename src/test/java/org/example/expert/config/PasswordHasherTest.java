@@ -0,0 +1,60 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class PasswordHasherTest {
+
+    private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHasher passwordHasher;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        passwordHasher.shutdown();
+    }
+
+    @Test
+    void 전용_스레드에서_해시한_결과를_돌려준다() {
+        // given
+        passwordHasher = new PasswordHasher(new PasswordEncoder(), 1, 1);
+
+        // when
+        String encoded = passwordHasher.encode("Password1234").join();
+
+        // then
+        assertTrue(passwordHasher.matches("Password1234", encoded).join());
+        assertFalse(passwordHasher.matches("wrong", encoded).join());
+    }
+
+    @Test
+    void 스레드와_대기열이_가득_차면_요청을_거절() {
+        // given
+        passwordHasher = new PasswordHasher(passwordEncoder, 1, 1);
+        given(passwordEncoder.encode(anyString())).willAnswer(invocation -> {
+            release.await();
+            return "encoded";
+        });
+        CompletableFuture<String> running = passwordHasher.encode("first");
+        CompletableFuture<String> queued = passwordHasher.encode("second");
+
+        // when & then
+        ServiceUnavailableException exception = assertThrows(ServiceUnavailableException.class,
+                () -> passwordHasher.encode("third"));
+        assertEquals("요청이 많아 잠시 후 다시 시도해주세요.", exception.getMessage());
+
+        release.countDown();
+        assertEquals("encoded", running.join());
+        assertEquals("encoded", queued.join());
+    }
+}
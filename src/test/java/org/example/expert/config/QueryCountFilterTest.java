@@ -0,0 +1,87 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryCountFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final QueryCountFilter filter = new QueryCountFilter(meterRegistry, 20);
+    private final QueryCounter inspector = new QueryCounter();
+
+    @Test
+    void 본문을_쓰기_전까지_실행한_SQL_수를_헤더로_붙인다() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) throws IOException {
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/todos/{todoId}");
+                inspector.inspect("select 1");
+                inspector.inspect("select 2");
+                inspector.inspect("select 3");
+                res.getWriter().write("{}");
+            }
+        });
+
+        // when
+        filter.doFilter(request, response, chain);
+
+        // then
+        assertEquals("3", response.getHeader(QueryCountFilter.HEADER));
+        DistributionSummary summary = meterRegistry.get(QueryCountFilter.METRIC_NAME).tag("uri", "/todos/{todoId}").summary();
+        assertEquals(1, summary.count());
+        assertEquals(3.0, summary.totalAmount());
+    }
+
+    @Test
+    void 요청이_끝나면_더_이상_세지_않는다() throws Exception {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("GET", "/health"), response, new MockFilterChain());
+        inspector.inspect("select 1");
+
+        // then
+        assertEquals(0, QueryCounter.current());
+        assertEquals(1, meterRegistry.get(QueryCountFilter.METRIC_NAME).tag("uri", "UNKNOWN").summary().count());
+    }
+
+    @Test
+    void 비동기_요청은_다른_스레드의_SQL_을_셀_수_없으므로_헤더와_메트릭에서_뺀다() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/signin");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) {
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/auth/signin");
+                inspector.inspect("select 1");
+                req.startAsync(req, res);
+            }
+        });
+
+        // when: 요청 스레드가 빠진 뒤 다른 스레드가 같은 응답 객체로 본문을 씁니다.
+        filter.doFilter(request, response, chain);
+        request.getAsyncContext().getResponse().getWriter().write("{}");
+
+        // then
+        assertNull(response.getHeader(QueryCountFilter.HEADER));
+        assertNull(meterRegistry.find(QueryCountFilter.METRIC_NAME).summary());
+    }
+}
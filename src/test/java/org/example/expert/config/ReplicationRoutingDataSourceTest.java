@@ -0,0 +1,138 @@
+package org.example.expert.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.example.expert.config.ReplicationRoutingDataSource.ReplicaSelection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// H2 인메모리 DB 를 프라이머리/레플리카로 따로 띄워, 트랜잭션 종류에 따라 어느 DB 로 가는지 확인합니다.
+class ReplicationRoutingDataSourceTest {
+
+    private HikariDataSource primary;
+    private List<HikariDataSource> replicas;
+    private ReplicationRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate writeTransaction;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("primary");
+        replicas = List.of(h2("replica-0"), h2("replica-1"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        routingDataSource.destroy();
+        primary.close();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void 읽기_전용_트랜잭션은_레플리카에_번갈아_보낸다() {
+        // given
+        route(ReplicaSelection.ROUND_ROBIN);
+
+        // when
+        List<String> nodes = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            nodes.add(readOnlyTransaction.execute(status -> currentNode()));
+        }
+
+        // then
+        assertEquals(List.of("replica-0", "replica-1", "replica-0", "replica-1"), nodes);
+    }
+
+    @Test
+    void 쓰기_트랜잭션과_트랜잭션_밖_조회는_프라이머리로_보낸다() {
+        // given
+        route(ReplicaSelection.ROUND_ROBIN);
+
+        // when & then
+        assertEquals("primary", writeTransaction.execute(status -> currentNode()));
+        assertEquals("primary", currentNode());
+    }
+
+    @Test
+    void 같은_요청에서_쓴_뒤의_읽기는_프라이머리로_보낸다() {
+        // given
+        route(ReplicaSelection.ROUND_ROBIN);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertEquals("replica-0", readOnlyTransaction.execute(status -> currentNode()));
+
+        // when
+        writeTransaction.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET name = name"));
+
+        // then
+        assertEquals("primary", readOnlyTransaction.execute(status -> currentNode()));
+
+        // 다음 요청부터는 다시 레플리카로 보냅니다.
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertEquals("replica-1", readOnlyTransaction.execute(status -> currentNode()));
+    }
+
+    @Test
+    void least_connections_는_사용_중인_커넥션이_적은_레플리카를_고른다() throws Exception {
+        // given
+        route(ReplicaSelection.LEAST_CONNECTIONS);
+
+        // when & then
+        try (Connection busy = replicas.get(0).getConnection()) {
+            for (int i = 0; i < 3; i++) {
+                assertEquals("replica-1", readOnlyTransaction.execute(status -> currentNode()));
+            }
+        }
+    }
+
+    @Test
+    void 레플리카_커넥션을_얻지_못하면_프라이머리에서_읽는다() {
+        // given
+        route(ReplicaSelection.ROUND_ROBIN);
+        replicas.forEach(HikariDataSource::close);
+
+        // when & then
+        assertEquals("primary", readOnlyTransaction.execute(status -> currentNode()));
+    }
+
+    private void route(ReplicaSelection selection) {
+        routingDataSource = new ReplicationRoutingDataSource(primary, replicas, selection);
+        routingDataSource.afterPropertiesSet();
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    // 각 DB 에 자기 이름을 적어 두어, 조회 결과로 어느 DB 에 붙었는지 알 수 있게 합니다.
+    private static HikariDataSource h2(String name) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setMaximumPoolSize(2);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,124 @@
+package org.example.expert.config;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 2차 캐시 적중과, 캐시가 비워져야 하는 경우(담당자 추가)와 남아야 하는 경우(카운터 벌크 증감)를 H2 에서 확인합니다.
+// READ_WRITE 캐시는 같은 트랜잭션 안에서 넣은 항목을 돌려주지 않으므로 단계마다 트랜잭션을 나눠 커밋합니다.
+@DataJpaTest
+@Import(PersistenceConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private Statistics statistics;
+    private User owner;
+    private Todo todo;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            owner = new User("owner@example.com", "password", UserRole.USER);
+            entityManager.persist(owner);
+            todo = new Todo("title", "contents", "Sunny", owner);
+            entityManager.persist(todo);
+        });
+
+        // insert 커밋 시 캐시에 들어간 항목을 비워, 첫 조회가 DB 에서 읽도록 합니다.
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transaction.executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM Manager").executeUpdate();
+            entityManager.createQuery("DELETE FROM Todo").executeUpdate();
+            entityManager.createQuery("DELETE FROM User").executeUpdate();
+        });
+    }
+
+    @Test
+    void 같은_유저를_다시_조회하면_DB_대신_캐시에서_읽는다() {
+        // given
+        transaction.executeWithoutResult(status -> entityManager.find(User.class, owner.getId()));
+        long statementsAfterFirstLoad = statistics.getPrepareStatementCount();
+
+        // when
+        User cached = transaction.execute(status -> entityManager.find(User.class, owner.getId()));
+
+        // then
+        assertEquals("owner@example.com", cached.getEmail());
+        assertEquals(statementsAfterFirstLoad, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics("user").getMissCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics("user").getHitCount());
+    }
+
+    @Test
+    void 담당자를_추가하면_일정의_담당자_컬렉션_캐시가_비워진다() {
+        // given
+        assertEquals(1, countManagers());
+        assertEquals(1, countManagers());
+        assertEquals(1, statistics.getDomainDataRegionStatistics("todo-managers").getHitCount());
+
+        // when
+        transaction.executeWithoutResult(status -> {
+            User member = new User("member@example.com", "password", UserRole.USER);
+            entityManager.persist(member);
+            entityManager.persist(new Manager(member, entityManager.getReference(Todo.class, todo.getId())));
+        });
+
+        // then
+        assertEquals(2, countManagers());
+    }
+
+    @Test
+    void 카운터를_벌크로_증감해도_캐시된_일정은_남고_카운트는_새로_읽는다() {
+        // given
+        assertEquals(0, commentCount());
+        assertTrue(entityManager.getEntityManagerFactory().getCache().contains(Todo.class, todo.getId()));
+
+        // when
+        transaction.executeWithoutResult(status -> todoRepository.addCommentCount(todo.getId(), 1));
+
+        // then
+        assertTrue(entityManager.getEntityManagerFactory().getCache().contains(Todo.class, todo.getId()));
+        assertEquals(1, commentCount());
+    }
+
+    private int countManagers() {
+        return transaction.execute(status -> entityManager.find(Todo.class, todo.getId()).getManagers().size());
+    }
+
+    private int commentCount() {
+        return transaction.execute(status -> entityManager.find(Todo.class, todo.getId()).getCommentCount());
+    }
+}
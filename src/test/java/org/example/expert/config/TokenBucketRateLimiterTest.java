@@ -0,0 +1,116 @@
+package org.example.expert.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void 용량만큼_몰아서_쓰고_나면_다음_토큰까지_남은_시간을_돌려준다() {
+        // given: 3개까지 몰아서, 분당 60개(1초에 1개)씩 채워집니다.
+        TokenBucketRateLimiter limiter = limiter(3, 60, 1024, 4);
+
+        // when & then
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire("1.1.1.1"));
+        }
+        assertEquals(TimeUnit.SECONDS.toNanos(1), limiter.tryAcquire("1.1.1.1"));
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(400));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(600), limiter.tryAcquire("1.1.1.1"));
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(600));
+        assertEquals(0, limiter.tryAcquire("1.1.1.1"));
+    }
+
+    @Test
+    void 키마다_버킷을_따로_쓴다() {
+        // given
+        TokenBucketRateLimiter limiter = limiter(1, 60, 1024, 4);
+
+        // when & then
+        assertEquals(0, limiter.tryAcquire("a@example.com"));
+        assertTrue(limiter.tryAcquire("a@example.com") > 0);
+        assertEquals(0, limiter.tryAcquire("b@example.com"));
+    }
+
+    @Test
+    void 가득_찰_만큼_쓰이지_않은_버킷은_지운다() {
+        // given: 2개가 차는 데 2초가 걸립니다.
+        TokenBucketRateLimiter limiter = limiter(2, 60, 1024, 1);
+        limiter.tryAcquire("old");
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        limiter.tryAcquire("recent");
+
+        // when
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        limiter.tryAcquire("new");
+
+        // then
+        assertEquals(2, limiter.size());
+    }
+
+    @Test
+    void 키가_많아도_최대_개수를_넘지_않는다() {
+        // given
+        TokenBucketRateLimiter limiter = limiter(1, 1, 64, 4);
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            limiter.tryAcquire("10.0." + (i / 256) + "." + (i % 256));
+        }
+
+        // then
+        assertTrue(limiter.size() <= 64);
+    }
+
+    @Test
+    void 여러_스레드가_같은_키를_써도_용량보다_많이_허용하지_않는다() throws Exception {
+        // given
+        TokenBucketRateLimiter limiter = limiter(100, 1, 1024, 16);
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicInteger allowed = new AtomicInteger();
+        for (int t = 0; t < threads; t++) {
+            new Thread(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < 1000; i++) {
+                        if (limiter.tryAcquire("same") == 0) {
+                            allowed.incrementAndGet();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+
+        // when
+        start.countDown();
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+
+        // then
+        assertEquals(100, allowed.get());
+    }
+
+    @Test
+    void stripe_수는_2의_거듭제곱이어야_한다() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketRateLimiter(1, 1, 1024, 3));
+    }
+
+    private TokenBucketRateLimiter limiter(int capacity, int refillPerMinute, int maxKeys, int stripes) {
+        return new TokenBucketRateLimiter(capacity, refillPerMinute, maxKeys, stripes, now::get);
+    }
+}
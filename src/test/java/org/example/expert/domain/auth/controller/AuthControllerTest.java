@@ -5,7 +5,10 @@ import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.auth.service.AuthRateLimiter;
 import org.example.expert.domain.auth.service.AuthService;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -14,11 +17,19 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.util.concurrent.CompletableFuture;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -31,20 +42,23 @@ class AuthControllerTest {
     private ObjectMapper objectMapper;
     @MockBean
     private AuthService authService;
+    @MockBean
+    private AuthRateLimiter authRateLimiter;
 
     @Test
     void 회원가입_성공() throws Exception {
         // given
         SignupRequest signupRequest = new SignupRequest("email@naver.com", "Aaaa1111*", "USER");
         SignupResponse signupResponse = new SignupResponse("bearerToken");
-        given(authService.signup(any(SignupRequest.class))).willReturn(signupResponse);
+        given(authService.signup(any(SignupRequest.class))).willReturn(CompletableFuture.completedFuture(signupResponse));
 
         // when
-        ResultActions resultActions = mockMvc.perform(post("/auth/signup")
+        MvcResult mvcResult = mockMvc.perform(post("/auth/signup")
                 .content(objectMapper.writeValueAsString(signupRequest))
                 .contentType(MediaType.APPLICATION_JSON)
                 .accept(MediaType.APPLICATION_JSON)
-        );
+        ).andExpect(request().asyncStarted()).andReturn();
+        ResultActions resultActions = mockMvc.perform(asyncDispatch(mvcResult));
         //then
         resultActions.andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
@@ -56,17 +70,59 @@ class AuthControllerTest {
         // given
         SigninRequest signinRequest = new SigninRequest("email@naver.com", "Aaaa1111*");
         SigninResponse signinResponse = new SigninResponse("bearerToken");
-        given(authService.signin(any(SigninRequest.class))).willReturn(signinResponse);
+        given(authService.signin(any(SigninRequest.class))).willReturn(CompletableFuture.completedFuture(signinResponse));
 
         // when
-        ResultActions resultActions = mockMvc.perform(post("/auth/signin")
+        MvcResult mvcResult = mockMvc.perform(post("/auth/signin")
                 .content(objectMapper.writeValueAsString(signinRequest))
                 .contentType(MediaType.APPLICATION_JSON)
-        );
+        ).andExpect(request().asyncStarted()).andReturn();
+        ResultActions resultActions = mockMvc.perform(asyncDispatch(mvcResult));
 
         // then
         resultActions.andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.bearerToken").value("bearerToken"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void 로그인_비밀번호_불일치시_401() throws Exception {
+        // given
+        SigninRequest signinRequest = new SigninRequest("email@naver.com", "Aaaa1111*");
+        CompletableFuture<SigninResponse> failed = CompletableFuture.completedFuture(false).thenApply(matches -> {
+            throw new AuthException("잘못된 비밀번호입니다.");
+        });
+        given(authService.signin(any(SigninRequest.class))).willReturn(failed);
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(post("/auth/signin")
+                .content(objectMapper.writeValueAsString(signinRequest))
+                .contentType(MediaType.APPLICATION_JSON)
+        ).andExpect(request().asyncStarted()).andReturn();
+        ResultActions resultActions = mockMvc.perform(asyncDispatch(mvcResult));
+
+        // then
+        resultActions.andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.message").value("잘못된 비밀번호입니다."));
+    }
+
+    @Test
+    void 로그인_요청이_너무_많으면_429_와_Retry_After_를_응답하고_인증하지_않는다() throws Exception {
+        // given
+        SigninRequest signinRequest = new SigninRequest("email@naver.com", "Aaaa1111*");
+        willThrow(new TooManyRequestsException("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.", 7))
+                .given(authRateLimiter).check(anyString(), anyString());
+
+        // when
+        ResultActions resultActions = mockMvc.perform(post("/auth/signin")
+                .content(objectMapper.writeValueAsString(signinRequest))
+                .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        resultActions.andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "7"))
+                .andExpect(jsonPath("$.code").value(429));
+        verify(authService, never()).signin(any(SigninRequest.class));
+    }
+}
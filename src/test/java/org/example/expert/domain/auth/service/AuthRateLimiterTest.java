@@ -0,0 +1,38 @@
+package org.example.expert.domain.auth.service;
+
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthRateLimiterTest {
+
+    @Test
+    void 같은_IP_의_요청이_용량을_넘으면_429_예외를_던진다() {
+        // given
+        AuthRateLimiter limiter = new AuthRateLimiter(2, 60, 100, 60, 1024, 4);
+        limiter.check("1.1.1.1", "a@example.com");
+        limiter.check("1.1.1.1", "b@example.com");
+
+        // when
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                () -> limiter.check("1.1.1.1", "c@example.com"));
+
+        // then
+        assertEquals(1, exception.getRetryAfterSeconds());
+    }
+
+    @Test
+    void 이메일은_대소문자와_공백을_무시하고_IP_가_달라도_같이_센다() {
+        // given
+        AuthRateLimiter limiter = new AuthRateLimiter(100, 60, 1, 1, 1024, 4);
+        limiter.check("1.1.1.1", "user@example.com");
+
+        // when
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                () -> limiter.check("2.2.2.2", " USER@example.com"));
+
+        // then
+        assertEquals(60, exception.getRetryAfterSeconds());
+    }
+}
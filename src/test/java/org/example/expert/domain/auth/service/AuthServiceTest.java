@@ -1,7 +1,7 @@
 package org.example.expert.domain.auth.service;
 
 import org.example.expert.config.JwtUtil;
-import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.PasswordHasher;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
@@ -15,10 +15,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -31,9 +36,12 @@ class AuthServiceTest {
     @Mock
     private UserRepository userRepository;
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
     @Mock
     private JwtUtil jwtUtil;
+    // 해시 뒤 단계를 호출한 스레드에서 바로 실행해 결과를 동기로 확인합니다.
+    @Spy
+    private Executor taskExecutor = new SyncTaskExecutor();
     @InjectMocks
     private AuthService authService;
 
@@ -44,7 +52,7 @@ class AuthServiceTest {
         SignupRequest signupRequest = new SignupRequest("aa@aa.com", "password", "USER");
 
         when(userRepository.existsByEmail(signupRequest.getEmail())).thenReturn(false);
-        when(passwordEncoder.encode(signupRequest.getPassword())).thenReturn("encodedPassword");
+        when(passwordHasher.encode(signupRequest.getPassword())).thenReturn(CompletableFuture.completedFuture("encodedPassword"));
 
         UserRole userRole = UserRole.of(signupRequest.getUserRole());
         User newUser = new User(signupRequest.getEmail(), "encodedPassword", userRole);
@@ -54,12 +62,14 @@ class AuthServiceTest {
         when(jwtUtil.createToken(anyLong(), anyString(), any(UserRole.class))).thenReturn("BearerToken");
 
         // when
-        SignupResponse signupResponse = authService.signup(signupRequest);
+        SignupResponse signupResponse = authService.signup(signupRequest).join();
 
         // then
         assertNotNull(signupResponse);
         assertEquals("BearerToken", signupResponse.getBearerToken());
         verify(userRepository, times(1)).save(any(User.class));
+        // 저장은 해시 풀이 아닌 taskExecutor 에서 실행합니다.
+        verify(taskExecutor, times(1)).execute(any(Runnable.class));
     }
 
     @Test
@@ -71,6 +81,7 @@ class AuthServiceTest {
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> authService.signup(signupRequest));
         assertEquals("이미 존재하는 이메일입니다.", exception.getMessage());
+        verify(passwordHasher, never()).encode(anyString());
     }
 
     @Test
@@ -80,12 +91,12 @@ class AuthServiceTest {
         User user = new User("email", "password", UserRole.USER);
         ReflectionTestUtils.setField(user, "id", 1L);
         given(userRepository.findByEmail(anyString())).willReturn(Optional.of(user));
-        given(passwordEncoder.matches(anyString(), anyString())).willReturn(true);
+        given(passwordHasher.matches(anyString(), anyString())).willReturn(CompletableFuture.completedFuture(true));
         String bearerToken = "bearerToken";
         given(jwtUtil.createToken(anyLong(), anyString(), any(UserRole.class))).willReturn(bearerToken);
 
         // when
-        SigninResponse signinResponse = authService.signin(signinRequest);
+        SigninResponse signinResponse = authService.signin(signinRequest).join();
 
         // then
         assertNotNull(signinResponse);
@@ -110,10 +121,55 @@ class AuthServiceTest {
         User user = new User("email@email.com", "password", UserRole.USER);
         SigninRequest signinRequest = new SigninRequest("email@email.com", "password");
         given(userRepository.findByEmail(anyString())).willReturn(Optional.of(user));
-        given(passwordEncoder.matches(anyString(), anyString())).willReturn(false);
+        given(passwordHasher.matches(anyString(), anyString())).willReturn(CompletableFuture.completedFuture(false));
 
         // when
-        AuthException exception = assertThrows(AuthException.class, () -> authService.signin(signinRequest));
-        assertEquals("잘못된 비밀번호입니다.", exception.getMessage());
+        CompletionException exception = assertThrows(CompletionException.class, () -> authService.signin(signinRequest).join());
+
+        // then
+        assertInstanceOf(AuthException.class, exception.getCause());
+        assertEquals("잘못된 비밀번호입니다.", exception.getCause().getMessage());
+    }
+
+    @Test
+    void 로그인_시_예전_cost의_해시는_백그라운드에서_재해시() {
+        // given
+        SigninRequest signinRequest = new SigninRequest("email", "password");
+        User user = new User("email", "oldHash", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+        given(userRepository.findByEmail(anyString())).willReturn(Optional.of(user));
+        given(passwordHasher.matches("password", "oldHash")).willReturn(CompletableFuture.completedFuture(true));
+        given(passwordHasher.needsRehash("oldHash")).willReturn(true);
+        given(passwordHasher.encode("password")).willReturn(CompletableFuture.completedFuture("newHash"));
+        given(jwtUtil.createToken(anyLong(), anyString(), any(UserRole.class))).willReturn("bearerToken");
+
+        // when
+        authService.signin(signinRequest).join();
+
+        // then
+        verify(userRepository, times(1)).updatePasswordIfUnchanged(1L, "oldHash", "newHash");
+        // 로그인 응답과 재해시 저장 모두 해시 풀이 아닌 taskExecutor 에서 실행합니다.
+        verify(taskExecutor, times(2)).execute(any(Runnable.class));
+    }
+
+    @Test
+    void 재해시_저장에_실패해도_로그인은_성공한다() {
+        // given
+        SigninRequest signinRequest = new SigninRequest("email", "password");
+        User user = new User("email", "oldHash", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+        given(userRepository.findByEmail(anyString())).willReturn(Optional.of(user));
+        given(passwordHasher.matches("password", "oldHash")).willReturn(CompletableFuture.completedFuture(true));
+        given(passwordHasher.needsRehash("oldHash")).willReturn(true);
+        given(passwordHasher.encode("password")).willReturn(CompletableFuture.completedFuture("newHash"));
+        given(userRepository.updatePasswordIfUnchanged(1L, "oldHash", "newHash")).willThrow(new IllegalStateException("db down"));
+        given(jwtUtil.createToken(anyLong(), anyString(), any(UserRole.class))).willReturn("bearerToken");
+
+        // when
+        SigninResponse signinResponse = authService.signin(signinRequest).join();
+
+        // then
+        assertEquals("bearerToken", signinResponse.getBearerToken());
+        verify(userRepository, times(1)).updatePasswordIfUnchanged(1L, "oldHash", "newHash");
     }
-}
\ No newline at end of file
+}
@@ -3,9 +3,11 @@ package org.example.expert.domain.comment.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.expert.config.AuthUserArgumentResolver;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.service.CommentService;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,6 +28,8 @@ import java.util.List;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -56,12 +60,31 @@ class CommentControllerTest {
         given(commentService.getComments(anyLong())).willReturn(List.of());
 
         // when
-        ResultActions resultActions = mockMvc.perform(get("/todos/{todoId}/comments", todoId));
+        ResultActions resultActions = mockMvc.perform(get("/todos/{todoId}/comments", todoId).param("all", "true"));
 
         // then
         resultActions.andExpect(status().isOk());
     }
 
+    @Test
+    void 댓글_커서_조회() throws Exception {
+        // given
+        long todoId = 1L;
+        CommentResponse commentResponse = new CommentResponse(3L, "contents", new UserResponse(1L, "email@a.com"));
+        given(commentService.getCommentsByCursor(eq(todoId), isNull(), eq(20)))
+                .willReturn(new CursorResponse<>(List.of(commentResponse), "3", true));
+
+        // when
+        ResultActions resultActions = mockMvc.perform(get("/todos/{todoId}/comments", todoId));
+
+        // then
+        resultActions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(3L))
+                .andExpect(jsonPath("$.nextCursor").value("3"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+        verify(commentService, never()).getComments(anyLong());
+    }
+
     @Test
     void 댓글_등록() throws Exception {
         // given
@@ -1,12 +1,15 @@
 package org.example.expert.domain.comment.service;
 
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Optional;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
@@ -17,6 +20,8 @@ class CommentAdminServiceTest {
 
     @Mock
     private CommentRepository commentRepository;
+    @Mock
+    private TodoRepository todoRepository;
     @InjectMocks
     private CommentAdminService commentAdminService;
 
@@ -24,13 +29,30 @@ class CommentAdminServiceTest {
     void 댓글_삭제_성공() {
         // given
         long commentId = 1L;
-        doNothing().when(commentRepository).deleteById(anyLong());
+        long todoId = 2L;
+        given(commentRepository.findTodoIdById(commentId)).willReturn(Optional.of(todoId));
+        given(commentRepository.deleteByIdInBulk(commentId)).willReturn(1);
+
+        // when
+        commentAdminService.deleteComment(commentId);
+
+        // then
+        verify(commentRepository, times(1)).deleteByIdInBulk(commentId);
+        verify(todoRepository, times(1)).addCommentCount(todoId, -1);
+    }
+
+    @Test
+    void 없는_댓글이면_카운터를_바꾸지_않는다() {
+        // given
+        long commentId = 1L;
+        given(commentRepository.findTodoIdById(commentId)).willReturn(Optional.empty());
 
         // when
         commentAdminService.deleteComment(commentId);
 
         // then
-        verify(commentRepository, times(1)).deleteById(anyLong());
+        verify(commentRepository, never()).deleteByIdInBulk(anyLong());
+        verifyNoInteractions(todoRepository);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+package org.example.expert.domain.comment.service;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import static org.example.expert.support.QueryCountAssertions.assertQueryCount;
+
+// 댓글 작성이 담당자 수와 관계없이 고정된 쿼리 수로 끝나는지(담당자 목록을 읽지 않는지) 확인합니다.
+@DataJpaTest
+@Import({PersistenceConfig.class, CommentService.class})
+class CommentSaveStatementTest {
+
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void 담당자가_많아도_쿼리_4번으로_댓글을_저장한다() {
+        // given
+        User owner = new User("owner@example.com", "password", UserRole.USER);
+        entityManager.persist(owner);
+        Todo todo = new Todo("title", "contents", "Sunny", owner);
+        entityManager.persist(todo);
+        for (int i = 0; i < 50; i++) {
+            User manager = new User("manager" + i + "@example.com", "password", UserRole.USER);
+            entityManager.persist(manager);
+            entityManager.persist(new Manager(manager, todo));
+        }
+        // pooled 시퀀스는 처음 두 번 DB 에서 값을 받습니다. 기존 댓글로 미리 받아 두어 측정에 시퀀스 조회가 끼지 않게 합니다.
+        for (int i = 0; i < 2; i++) {
+            entityManager.persist(new Comment("comment" + i, owner, todo));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        AuthUser authUser = new AuthUser(owner.getId(), owner.getEmail(), UserRole.USER);
+
+        // when & then
+        // 일정 조회, 담당자 여부 확인, 댓글 INSERT, 댓글 수 UPDATE
+        assertQueryCount(4, () -> {
+            commentService.saveComment(authUser, todo.getId(), new CommentSaveRequest("comment"));
+            entityManager.flush();
+        });
+    }
+}
@@ -6,9 +6,10 @@ import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.common.exception.ServerException;
-import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.entity.User;
@@ -19,6 +20,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
@@ -28,6 +31,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class CommentServiceTest {
@@ -36,6 +40,8 @@ class CommentServiceTest {
     private CommentRepository commentRepository;
     @Mock
     private TodoRepository todoRepository;
+    @Mock
+    private ManagerRepository managerRepository;
     @InjectMocks
     private CommentService commentService;
 
@@ -90,6 +96,7 @@ class CommentServiceTest {
             Comment comment = new Comment(request.getContents(), user, todo);
 
             given(todoRepository.findById(anyLong())).willReturn(Optional.of(todo));
+            given(managerRepository.existsByTodoIdAndUserId(todoId, authUser.getId())).willReturn(true);
             given(commentRepository.save(any())).willReturn(comment);
 
             // when
@@ -97,6 +104,7 @@ class CommentServiceTest {
 
             // then
             assertNotNull(result);
+            verify(todoRepository).addCommentCount(todoId, 1);
         }
     }
 
@@ -104,12 +112,9 @@ class CommentServiceTest {
     void comment_목록_조회() {
         // given
         long todoId = 1;
-        User user = new User("email", "pw", UserRole.USER);
-        Todo todo = new Todo("title", "content", "weather", user);
-        Comment comment = new Comment("contents", user, todo);
-        List<Comment> commentList = List.of(comment);
+        List<CommentResponse> commentList = List.of(new CommentResponse(1L, "contents", 1L, "email"));
 
-        given(commentRepository.findByTodoIdWithUser(todoId)).willReturn(commentList);
+        given(commentRepository.findResponsesByTodoId(todoId)).willReturn(commentList);
 
         // when
         List<CommentResponse> comments = commentService.getComments(todoId);
@@ -120,4 +125,46 @@ class CommentServiceTest {
         assertEquals("contents", comments.get(0).getContents());
     }
 
+    @Nested
+    class GetCommentsByCursorTest {
+        @Test
+        void 첫_페이지는_처음부터_조회하고_마지막_id_를_다음_커서로_돌려준다() {
+            // given
+            long todoId = 1L;
+            List<CommentResponse> content = List.of(
+                    new CommentResponse(1L, "first", 1L, "email"),
+                    new CommentResponse(2L, "second", 1L, "email")
+            );
+            given(commentRepository.findSliceByTodoIdAfter(todoId, 0L, PageRequest.of(0, 2)))
+                    .willReturn(new SliceImpl<>(content, PageRequest.of(0, 2), true));
+            given(commentRepository.findSliceByTodoIdAfter(todoId, 2L, PageRequest.of(0, 2)))
+                    .willReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 2), false));
+
+            // when
+            CursorResponse<CommentResponse> first = commentService.getCommentsByCursor(todoId, null, 2);
+            CursorResponse<CommentResponse> second = commentService.getCommentsByCursor(todoId, first.getNextCursor(), 2);
+
+            // then
+            assertEquals(2, first.getContent().size());
+            assertEquals("2", first.getNextCursor());
+            assertTrue(first.isHasNext());
+            assertTrue(second.getContent().isEmpty());
+            assertNull(second.getNextCursor());
+        }
+
+        @Test
+        void 잘못된_커서면_예외_발생() {
+            // when & then
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                    () -> commentService.getCommentsByCursor(1L, "abc", 20));
+            assertEquals("잘못된 cursor 입니다.", exception.getMessage());
+        }
+
+        @Test
+        void size_가_범위를_벗어나면_예외_발생() {
+            // when & then
+            assertThrows(InvalidRequestException.class, () -> commentService.getCommentsByCursor(1L, null, 0));
+            assertThrows(InvalidRequestException.class, () -> commentService.getCommentsByCursor(1L, null, 101));
+        }
+    }
 }
@@ -70,6 +70,7 @@ class ManagerServiceTest {
             assertNotNull(response);
             assertEquals(managerUser.getId(), response.getUser().getId());
             assertEquals(managerUser.getEmail(), response.getUser().getEmail());
+            verify(todoRepository).addManagerCount(todoId, 1);
         }
 
         @Test
@@ -132,6 +133,30 @@ class ManagerServiceTest {
             InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> managerService.saveManager(authUser, todoId, managerSaveRequest));
             assertEquals("일정 작성자는 본인을 담당자로 등록할 수 없습니다.", exception.getMessage());
         }
+
+        @Test
+        void 이미_등록된_담당자를_다시_등록할_경우_예외가_발생() {
+            // given
+            AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+            User user = User.fromAuthUser(authUser);
+
+            long todoId = 1L;
+            Todo todo = new Todo("Test Title", "Test Contents", "Sunny", user);
+
+            long managerUserId = 2L;
+            User managerUser = new User("b@b.com", "password", UserRole.USER);
+            ReflectionTestUtils.setField(managerUser, "id", managerUserId);
+            ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId);
+
+            given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+            given(userRepository.findById(managerUserId)).willReturn(Optional.of(managerUser));
+            given(managerRepository.existsByTodoIdAndUserId(todoId, managerUserId)).willReturn(true);
+
+            // when & then
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> managerService.saveManager(authUser, todoId, managerSaveRequest));
+            assertEquals("이미 등록된 담당자입니다.", exception.getMessage());
+            verify(managerRepository, never()).save(any(Manager.class));
+        }
     }
 
     @Nested
@@ -140,7 +165,7 @@ class ManagerServiceTest {
         void manager_목록_조회_시_Todo가_없다면_InvalidRequestException_예외가_발생() {
             // given
             long todoId = 1L;
-            given(todoRepository.findById(todoId)).willReturn(Optional.empty());
+            given(todoRepository.existsById(todoId)).willReturn(false);
 
             // when & then
             InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> managerService.getManagers(todoId));
@@ -151,15 +176,11 @@ class ManagerServiceTest {
         void manager_목록_조회에_성공() {
             // given
             long todoId = 1L;
-            User user = new User("user1@example.com", "password", UserRole.USER);
-            Todo todo = new Todo("Title", "Contents", "Sunny", user);
-            ReflectionTestUtils.setField(todo, "id", todoId);
-
-            Manager mockManager = new Manager(todo.getUser(), todo);
-            List<Manager> managerList = List.of(mockManager);
+            ManagerResponse mockManager = new ManagerResponse(1L, 1L, "user1@example.com");
+            List<ManagerResponse> managerList = List.of(mockManager);
 
-            given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-            given(managerRepository.findByTodoIdWithUser(todoId)).willReturn(managerList);
+            given(todoRepository.existsById(todoId)).willReturn(true);
+            given(managerRepository.findResponsesByTodoId(todoId)).willReturn(managerList);
 
             // when
             List<ManagerResponse> managerResponses = managerService.getManagers(todoId);
@@ -293,6 +314,7 @@ class ManagerServiceTest {
 
             // then
             verify(managerRepository, times(1)).delete(manager);
+            verify(todoRepository).addManagerCount(todoId, -1);
         }
     }
 }
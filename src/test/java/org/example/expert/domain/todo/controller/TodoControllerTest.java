@@ -3,9 +3,16 @@ package org.example.expert.domain.todo.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.expert.config.AuthUserArgumentResolver;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.todo.dto.request.TodoBatchSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchItemResult;
+import org.example.expert.domain.todo.dto.response.TodoBatchSaveResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.service.TodoBatchService;
+import org.example.expert.domain.todo.service.TodoExportService;
+import org.example.expert.domain.todo.service.TodoReadCoalescer;
 import org.example.expert.domain.todo.service.TodoService;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.enums.UserRole;
@@ -19,13 +26,17 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -38,13 +49,19 @@ class TodoControllerTest {
     @MockBean
     private TodoService todoService;
     @MockBean
+    private TodoBatchService todoBatchService;
+    @MockBean
+    private TodoExportService todoExportService;
+    @MockBean
+    private TodoReadCoalescer todoReadCoalescer;
+    @MockBean
     private AuthUserArgumentResolver authUserArgumentResolver;
 
     private AuthUser authUser;
 
     @BeforeEach
     void setUp() {
-        mockMvc = MockMvcBuilders.standaloneSetup(new TodoController(todoService)).setCustomArgumentResolvers(authUserArgumentResolver).build();
+        mockMvc = MockMvcBuilders.standaloneSetup(new TodoController(todoService, todoBatchService, todoExportService, todoReadCoalescer)).setCustomArgumentResolvers(authUserArgumentResolver).build();
         authUser = new AuthUser(1L, "email@email.com", UserRole.USER);
     }
 
@@ -75,13 +92,78 @@ class TodoControllerTest {
                 .andExpect(jsonPath("$.user.email").value(authUser.getEmail()));
     }
 
+    @Test
+    void 할일_일괄_저장() throws Exception {
+        // given
+        TodoBatchSaveRequest request = new TodoBatchSaveRequest(List.of(
+                new TodoSaveRequest("title", "contents"),
+                new TodoSaveRequest("", "contents")
+        ));
+        UserResponse userResponse = new UserResponse(1L, "email@email.com");
+        TodoBatchSaveResponse response = new TodoBatchSaveResponse(List.of(
+                TodoBatchItemResult.saved(0, new TodoSaveResponse(1L, "title", "contents", "weather", userResponse)),
+                TodoBatchItemResult.failed(1, "title 공백일 수 없습니다")
+        ));
+
+        given(authUserArgumentResolver.supportsParameter(any())).willReturn(true);
+        given(authUserArgumentResolver.resolveArgument(any(), any(), any(), any())).willReturn(authUser);
+        given(todoBatchService.saveTodos(any(AuthUser.class), any(TodoBatchSaveRequest.class))).willReturn(response);
+
+        // when
+        ResultActions resultActions = mockMvc.perform(post("/todos/batch")
+                .content(objectMapper.writeValueAsString(request))
+                .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        resultActions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.savedCount").value(1))
+                .andExpect(jsonPath("$.failedCount").value(1))
+                .andExpect(jsonPath("$.results[0].todo.id").value(1L))
+                .andExpect(jsonPath("$.results[1].success").value(false));
+    }
+
+    @Test
+    void 할일_일괄_저장_시_목록이_비어있으면_400() throws Exception {
+        // given
+        given(authUserArgumentResolver.supportsParameter(any())).willReturn(true);
+        given(authUserArgumentResolver.resolveArgument(any(), any(), any(), any())).willReturn(authUser);
+
+        // when
+        ResultActions resultActions = mockMvc.perform(post("/todos/batch")
+                .content(objectMapper.writeValueAsString(new TodoBatchSaveRequest(List.of())))
+                .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        resultActions.andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void 할일_내보내기() throws Exception {
+        // given
+        willAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(0);
+            outputStream.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).given(todoExportService).exportTodos(any(OutputStream.class));
+
+        // when
+        ResultActions resultActions = mockMvc.perform(get("/todos/export"));
+
+        // then
+        resultActions.andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson;charset=UTF-8"))
+                .andExpect(content().string("{\"id\":1}\n"));
+    }
+
     @Test
     void 할일_가져오기() throws Exception {
         // given
         long todoId = 1L;
-        TodoResponse todoResponse = new TodoResponse(1L, "title", "contents", "weather", null, null, null);
+        TodoResponse todoResponse = new TodoResponse(1L, "title", "contents", "weather", null, 0, 1, null, null);
 
-        given(todoService.getTodo(anyLong())).willReturn(todoResponse);
+        given(todoReadCoalescer.getTodo(anyLong())).willReturn(todoResponse);
 
         // when
         ResultActions resultActions = mockMvc.perform(get("/todos/{todoId}", todoId));
@@ -92,4 +174,22 @@ class TodoControllerTest {
                 .andExpect(jsonPath("$.title").value(todoResponse.getTitle()))
                 .andExpect(jsonPath("$.contents").value(todoResponse.getContents()));
     }
-}
\ No newline at end of file
+
+    @Test
+    void 할일_커서_조회() throws Exception {
+        // given
+        TodoResponse todoResponse = new TodoResponse(1L, "title", "contents", "weather", null, 0, 1, null, null);
+        CursorResponse<TodoResponse> cursorResponse = new CursorResponse<>(List.of(todoResponse), "nextCursor", true);
+
+        given(todoService.getTodosByCursor(eq(""), anyInt())).willReturn(cursorResponse);
+
+        // when
+        ResultActions resultActions = mockMvc.perform(get("/todos").param("cursor", "").param("size", "1"));
+
+        // then
+        resultActions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(todoResponse.getId()))
+                .andExpect(jsonPath("$.nextCursor").value("nextCursor"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+}
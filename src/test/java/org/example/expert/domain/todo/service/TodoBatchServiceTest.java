@@ -0,0 +1,121 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.Validation;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.request.TodoBatchSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchSaveResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TodoBatchServiceTest {
+
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private WeatherClient weatherClient;
+
+    private TodoBatchService todoBatchService;
+    private final AuthUser authUser = new AuthUser(1L, "email@email.com", UserRole.USER);
+
+    @BeforeEach
+    void setUp() {
+        todoBatchService = new TodoBatchService(
+                entityManager,
+                transactionManager,
+                weatherClient,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                2
+        );
+    }
+
+    @Test
+    void 일정을_chunk_단위로_저장하고_날씨는_한_번만_조회한다() {
+        // given
+        TodoBatchSaveRequest request = new TodoBatchSaveRequest(List.of(
+                new TodoSaveRequest("title1", "contents1"),
+                new TodoSaveRequest("", "contents2"),
+                new TodoSaveRequest("title3", "contents3"),
+                new TodoSaveRequest("title4", "contents4")
+        ));
+        given(weatherClient.getTodayWeather()).willReturn("Sunny");
+
+        // when
+        TodoBatchSaveResponse response = todoBatchService.saveTodos(authUser, request);
+
+        // then
+        assertEquals(3, response.getSavedCount());
+        assertEquals(1, response.getFailedCount());
+        assertTrue(response.getResults().get(0).isSuccess());
+        assertFalse(response.getResults().get(1).isSuccess());
+        assertNotNull(response.getResults().get(1).getMessage());
+        assertEquals("title4", response.getResults().get(3).getTodo().getTitle());
+        assertEquals("Sunny", response.getResults().get(3).getTodo().getWeather());
+
+        verify(weatherClient, times(1)).getTodayWeather();
+        verify(entityManager, times(3)).persist(any(Todo.class));
+        verify(entityManager, times(2)).flush();
+        verify(entityManager, times(2)).clear();
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void chunk_저장에_실패하면_해당_chunk_만_실패로_응답한다() {
+        // given
+        TodoBatchSaveRequest request = new TodoBatchSaveRequest(List.of(
+                new TodoSaveRequest("title1", "contents1"),
+                new TodoSaveRequest("title2", "contents2"),
+                new TodoSaveRequest("title3", "contents3")
+        ));
+        given(weatherClient.getTodayWeather()).willReturn("Sunny");
+        doThrow(new PersistenceException("fail")).doNothing().when(entityManager).flush();
+
+        // when
+        TodoBatchSaveResponse response = todoBatchService.saveTodos(authUser, request);
+
+        // then
+        assertEquals(1, response.getSavedCount());
+        assertEquals(2, response.getFailedCount());
+        assertFalse(response.getResults().get(0).isSuccess());
+        assertFalse(response.getResults().get(1).isSuccess());
+        assertTrue(response.getResults().get(2).isSuccess());
+        verify(transactionManager, times(1)).rollback(any());
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    void 모든_항목이_유효하지_않으면_날씨를_조회하지_않는다() {
+        // given
+        TodoBatchSaveRequest request = new TodoBatchSaveRequest(List.of(
+                new TodoSaveRequest("", "contents"),
+                new TodoSaveRequest("title", " ")
+        ));
+
+        // when
+        TodoBatchSaveResponse response = todoBatchService.saveTodos(authUser, request);
+
+        // then
+        assertEquals(0, response.getSavedCount());
+        assertEquals(2, response.getFailedCount());
+        verifyNoInteractions(weatherClient, entityManager, transactionManager);
+    }
+}
@@ -0,0 +1,137 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
+import org.example.expert.domain.comment.service.CommentAdminService;
+import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
+import org.example.expert.domain.manager.service.ManagerService;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 댓글/담당자 등록·삭제 시 todo_counters 의 카운터가 DB 에서 증감되는지 H2 에서 확인합니다.
+@DataJpaTest
+@Import({PersistenceConfig.class, CommentService.class, CommentAdminService.class, ManagerService.class})
+class TodoCounterTest {
+
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private CommentAdminService commentAdminService;
+    @Autowired
+    private ManagerService managerService;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private User owner;
+    private User member;
+    private Todo todo;
+
+    @BeforeEach
+    void setUp() {
+        owner = new User("owner@example.com", "password", UserRole.USER);
+        member = new User("member@example.com", "password", UserRole.USER);
+        entityManager.persist(owner);
+        entityManager.persist(member);
+        todo = new Todo("title", "contents", "Sunny", owner);
+        entityManager.persist(todo);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void 담당자와_댓글을_등록하고_삭제하면_카운터가_따라_바뀐다() {
+        // given
+        AuthUser ownerAuth = new AuthUser(owner.getId(), owner.getEmail(), UserRole.USER);
+        AuthUser memberAuth = new AuthUser(member.getId(), member.getEmail(), UserRole.USER);
+
+        // when
+        ManagerSaveResponse manager = managerService.saveManager(ownerAuth, todo.getId(), new ManagerSaveRequest(member.getId()));
+        CommentSaveResponse first = commentService.saveComment(memberAuth, todo.getId(), new CommentSaveRequest("first"));
+        commentService.saveComment(ownerAuth, todo.getId(), new CommentSaveRequest("second"));
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertCounts(2, 2);
+
+        // when
+        commentAdminService.deleteComment(first.getId());
+        commentAdminService.deleteComment(first.getId());
+        managerService.deleteManager(owner.getId(), todo.getId(), manager.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertCounts(1, 1);
+    }
+
+    @Test
+    void 일정_내용을_수정해도_카운터를_덮어쓰지_않는다() {
+        // given
+        Todo loaded = entityManager.find(Todo.class, todo.getId());
+        commentService.saveComment(new AuthUser(owner.getId(), owner.getEmail(), UserRole.USER), todo.getId(), new CommentSaveRequest("comment"));
+
+        // when
+        loaded.update("new title", "new contents");
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertCounts(1, 1);
+    }
+
+    @Test
+    void 카운터_행이_없는_일정도_조회에서_빠지지_않고_0_으로_나온다() {
+        // given: 카운터 분리 전에 만들어져 todo_counters 행이 없는 일정
+        entityManager.createNativeQuery("DELETE FROM todo_counters").executeUpdate();
+        entityManager.clear();
+
+        // when
+        Page<TodoResponse> page = todoRepository.findAllByOrderByModifiedAtDesc(PageRequest.of(0, 10));
+        Slice<TodoResponse> slice = todoRepository.findFirstSliceByOrderByModifiedAtDesc(PageRequest.of(0, 10));
+        List<TodoResponse> exported;
+        try (Stream<TodoResponse> stream = todoRepository.streamAllForExport()) {
+            exported = stream.toList();
+        }
+        Todo loaded = todoRepository.findByIdWithUser(todo.getId()).orElseThrow();
+
+        // then
+        assertEquals(1, page.getTotalElements());
+        assertEquals(1, page.getContent().size());
+        assertEquals(0, page.getContent().get(0).getCommentCount());
+        assertEquals(1, slice.getNumberOfElements());
+        assertEquals(1, exported.size());
+        assertEquals(0, exported.get(0).getManagerCount());
+        assertEquals(0, loaded.getCommentCount());
+        assertEquals(0, loaded.getManagerCount());
+    }
+
+    private void assertCounts(int commentCount, int managerCount) {
+        Todo reloaded = entityManager.find(Todo.class, todo.getId());
+        assertEquals(commentCount, reloaded.getCommentCount());
+        assertEquals(managerCount, reloaded.getManagerCount());
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import static org.example.expert.support.QueryCountAssertions.assertQueryCount;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 일정 삭제가 댓글 수와 관계없이 고정된 쿼리 수로 끝나는지 H2 에서 확인합니다.
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({PersistenceConfig.class, TodoService.class})
+class TodoDeleteStatementTest {
+
+    @Autowired
+    private TodoService todoService;
+    @Autowired
+    private EntityManager entityManager;
+    @MockBean
+    private WeatherClient weatherClient;
+
+    @Test
+    void 댓글이_많아도_쿼리_4번으로_삭제하고_자식_엔티티를_읽지_않는다() {
+        // given
+        User owner = new User("owner@example.com", "password", UserRole.USER);
+        User manager = new User("manager@example.com", "password", UserRole.USER);
+        entityManager.persist(owner);
+        entityManager.persist(manager);
+        Todo todo = new Todo("title", "contents", "Sunny", owner);
+        entityManager.persist(todo);
+        entityManager.persist(new Manager(manager, todo));
+        for (int i = 0; i < 200; i++) {
+            entityManager.persist(new Comment("comment" + i, manager, todo));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when & then
+        assertQueryCount(4, () -> {
+            todoService.deleteTodo(new AuthUser(owner.getId(), owner.getEmail(), UserRole.USER), todo.getId());
+            entityManager.flush();
+        });
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0L, count("SELECT COUNT(c) FROM Comment c"));
+        assertEquals(0L, count("SELECT COUNT(m) FROM Manager m"));
+        assertEquals(0L, count("SELECT COUNT(t) FROM Todo t"));
+    }
+
+    private long count(String jpql) {
+        return entityManager.createQuery(jpql, Long.class).getSingleResult();
+    }
+}
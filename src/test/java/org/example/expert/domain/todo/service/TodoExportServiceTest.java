@@ -0,0 +1,119 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.example.expert.domain.comment.dto.response.CommentExportRow;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.dto.response.ManagerExportRow;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TodoExportServiceTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private ManagerRepository managerRepository;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private TodoExportService todoExportService;
+
+    @BeforeEach
+    void setUp() {
+        todoExportService = new TodoExportService(
+                todoRepository, managerRepository, commentRepository, objectMapper, transactionManager, 2, 2);
+    }
+
+    @Test
+    void 일정을_한_줄에_하나씩_담당자와_댓글을_포함해_내보낸다() throws Exception {
+        // given
+        AtomicBoolean streamClosed = new AtomicBoolean();
+        given(todoRepository.streamAllForExport()).willReturn(Stream.of(todo(1L), todo(2L), todo(3L))
+                .onClose(() -> streamClosed.set(true)));
+        given(managerRepository.findExportRowsByTodoIdInAfter(List.of(1L, 2L), 0L, 0L, PageRequest.of(0, 2)))
+                .willReturn(List.of(new ManagerExportRow(1L, 10L, 1L, "a@a.com")));
+        given(managerRepository.findExportRowsByTodoIdInAfter(List.of(3L), 0L, 0L, PageRequest.of(0, 2)))
+                .willReturn(List.of(new ManagerExportRow(3L, 30L, 1L, "a@a.com")));
+        // 1번 일정의 댓글 3개가 페이지 크기(2)를 넘으므로 (1, 101) 다음부터 이어서 읽습니다.
+        given(commentRepository.findExportRowsByTodoIdInAfter(List.of(1L, 2L), 0L, 0L, PageRequest.of(0, 2)))
+                .willReturn(List.of(new CommentExportRow(1L, 100L, "first", 1L, "a@a.com"), new CommentExportRow(1L, 101L, "second", 1L, "a@a.com")));
+        given(commentRepository.findExportRowsByTodoIdInAfter(List.of(1L, 2L), 1L, 101L, PageRequest.of(0, 2)))
+                .willReturn(List.of(new CommentExportRow(1L, 102L, "third", 1L, "a@a.com"), new CommentExportRow(2L, 200L, "other", 1L, "a@a.com")));
+        given(commentRepository.findExportRowsByTodoIdInAfter(List.of(1L, 2L), 2L, 200L, PageRequest.of(0, 2)))
+                .willReturn(List.of());
+        given(commentRepository.findExportRowsByTodoIdInAfter(List.of(3L), 0L, 0L, PageRequest.of(0, 2))).willReturn(List.of());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        todoExportService.exportTodos(outputStream);
+
+        // then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals(1L, first.get("id").asLong());
+        assertEquals(10L, first.get("managers").get(0).get("id").asLong());
+        assertEquals(3, first.get("comments").size());
+        assertEquals("third", first.get("comments").get(2).get("contents").asText());
+        assertEquals("a@a.com", first.get("comments").get(0).get("user").get("email").asText());
+
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertTrue(second.get("managers").isEmpty());
+        assertEquals(200L, second.get("comments").get(0).get("id").asLong());
+
+        JsonNode third = objectMapper.readTree(lines[2]);
+        assertEquals(3L, third.get("id").asLong());
+        assertTrue(third.get("comments").isEmpty());
+
+        assertTrue(streamClosed.get());
+        verify(managerRepository, times(2)).findExportRowsByTodoIdInAfter(any(), any(), any(), any());
+        verify(commentRepository, times(4)).findExportRowsByTodoIdInAfter(any(), any(), any(), any());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void 일정이_없으면_아무것도_쓰지_않는다() throws Exception {
+        // given
+        given(todoRepository.streamAllForExport()).willReturn(Stream.empty());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        todoExportService.exportTodos(outputStream);
+
+        // then
+        assertEquals(0, outputStream.size());
+        verifyNoInteractions(managerRepository, commentRepository);
+    }
+
+    private static TodoResponse todo(long id) {
+        LocalDateTime now = LocalDateTime.of(2024, 9, 1, 12, 0);
+        return new TodoResponse(id, "title" + id, "contents", "Sunny", 1L, "a@a.com", 0, 1, now, now);
+    }
+}
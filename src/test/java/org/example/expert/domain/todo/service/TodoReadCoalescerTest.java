@@ -0,0 +1,149 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TodoReadCoalescerTest {
+
+    private static final int REQUESTS = 50;
+
+    @Mock
+    private TodoService todoService;
+
+    @Test
+    void 같은_일정을_동시에_조회하면_DB_조회는_한_번만_한다() throws Exception {
+        // given
+        TodoReadCoalescer coalescer = new TodoReadCoalescer(todoService, 0);
+        TodoResponse todo = todo(1L);
+        CountDownLatch release = new CountDownLatch(1);
+        given(todoService.getTodo(1L)).willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return todo;
+        });
+
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger arrived = new AtomicInteger();
+        ConcurrentLinkedQueue<TodoResponse> results = new ConcurrentLinkedQueue<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                    arrived.incrementAndGet();
+                    results.add(coalescer.getTodo(1L));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        // when
+        start.countDown();
+        // 모든 요청이 들어와 먼저 온 요청의 조회 또는 그 결과를 기다리는 상태가 된 뒤에 조회를 끝냅니다.
+        awaitAllWaiting(threads, arrived);
+        release.countDown();
+        for (Thread thread : threads) {
+            thread.join(5000);
+        }
+
+        // then
+        verify(todoService, times(1)).getTodo(1L);
+        assertEquals(REQUESTS, results.size());
+        assertTrue(results.stream().allMatch(result -> result == todo));
+    }
+
+    @Test
+    void 조회가_끝나면_다음_요청은_다시_DB_에서_읽는다() {
+        // given
+        TodoReadCoalescer coalescer = new TodoReadCoalescer(todoService, 0);
+        given(todoService.getTodo(1L)).willReturn(todo(1L));
+
+        // when
+        coalescer.getTodo(1L);
+        coalescer.getTodo(1L);
+
+        // then
+        verify(todoService, times(2)).getTodo(1L);
+    }
+
+    @Test
+    void 보관_시간_동안은_결과를_재사용하고_지나면_다시_읽는다() throws Exception {
+        // given
+        TodoReadCoalescer coalescer = new TodoReadCoalescer(todoService, 100);
+        given(todoService.getTodo(1L)).willReturn(todo(1L));
+
+        // when
+        TodoResponse first = coalescer.getTodo(1L);
+        TodoResponse second = coalescer.getTodo(1L);
+
+        // then
+        assertSame(first, second);
+        verify(todoService, times(1)).getTodo(1L);
+
+        Thread.sleep(300);
+        coalescer.getTodo(1L);
+        verify(todoService, times(2)).getTodo(1L);
+    }
+
+    @Test
+    void 조회에_실패하면_예외를_그대로_던지고_결과를_보관하지_않는다() {
+        // given
+        TodoReadCoalescer coalescer = new TodoReadCoalescer(todoService, 60_000);
+        given(todoService.getTodo(1L)).willThrow(new InvalidRequestException("Todo not found"));
+
+        // when & then
+        assertThrows(InvalidRequestException.class, () -> coalescer.getTodo(1L));
+        assertThrows(InvalidRequestException.class, () -> coalescer.getTodo(1L));
+        verify(todoService, times(2)).getTodo(1L);
+    }
+
+    @Test
+    void 조회_중_Error_가_나도_결과를_비워_다음_조회가_멈추지_않는다() {
+        // given
+        TodoReadCoalescer coalescer = new TodoReadCoalescer(todoService, 60_000);
+        given(todoService.getTodo(1L)).willThrow(new StackOverflowError()).willReturn(todo(1L));
+
+        // when & then
+        assertThrows(StackOverflowError.class, () -> coalescer.getTodo(1L));
+        TodoResponse result = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> coalescer.getTodo(1L));
+        assertEquals(1L, result.getId());
+        verify(todoService, times(2)).getTodo(1L);
+    }
+
+    private static void awaitAllWaiting(List<Thread> threads, AtomicInteger arrived) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            if (arrived.get() == threads.size()
+                    && threads.stream().allMatch(thread -> thread.getState() == Thread.State.WAITING
+                    || thread.getState() == Thread.State.TIMED_WAITING)) {
+                return;
+            }
+            Thread.sleep(1);
+        }
+        fail("모든 요청이 대기 상태가 되지 않았습니다.");
+    }
+
+    private static TodoResponse todo(long id) {
+        return new TodoResponse(id, "title", "contents", "Sunny", null, 0, 1, null, null);
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+// 일정 저장 중 날씨를 가져오는 동안 트랜잭션과 커넥션을 잡고 있지 않은지 실제 트랜잭션 프록시로 확인합니다.
+// 테스트 자체가 트랜잭션을 열면 saveTodo 가 그 트랜잭션에 참여한 것처럼 보이므로 테스트 트랜잭션은 끕니다.
+@DataJpaTest
+@Import({PersistenceConfig.class, TodoService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TodoSaveTransactionTest {
+
+    @Autowired
+    private TodoService todoService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @MockBean
+    private WeatherClient weatherClient;
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM Manager").executeUpdate();
+            entityManager.createQuery("DELETE FROM Todo").executeUpdate();
+            entityManager.createQuery("DELETE FROM User").executeUpdate();
+        });
+    }
+
+    @Test
+    void 날씨를_가져오는_동안에는_트랜잭션과_커넥션을_잡지_않는다() {
+        // given
+        User owner = new User("owner@example.com", "password", UserRole.USER);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> entityManager.persist(owner));
+
+        AtomicBoolean transactionActive = new AtomicBoolean(true);
+        AtomicBoolean connectionBound = new AtomicBoolean(true);
+        given(weatherClient.getTodayWeather()).willAnswer(invocation -> {
+            transactionActive.set(TransactionSynchronizationManager.isActualTransactionActive());
+            connectionBound.set(TransactionSynchronizationManager.hasResource(dataSource));
+            return "Sunny";
+        });
+
+        // when
+        TodoSaveResponse response = todoService.saveTodo(
+                new AuthUser(owner.getId(), owner.getEmail(), UserRole.USER), new TodoSaveRequest("title", "contents"));
+
+        // then
+        assertFalse(transactionActive.get());
+        assertFalse(connectionBound.get());
+        assertNotNull(response.getId());
+        assertEquals("Sunny", response.getWeather());
+    }
+}
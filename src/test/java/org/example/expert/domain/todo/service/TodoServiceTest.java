@@ -1,8 +1,11 @@
 package org.example.expert.domain.todo.service;
 
 import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
@@ -14,6 +17,7 @@ import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -21,14 +25,20 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.mockito.BDDMockito.given;
 
@@ -39,6 +49,10 @@ class TodoServiceTest {
     private TodoRepository todoRepository;
     @Mock
     private WeatherClient weatherClient;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private ManagerRepository managerRepository;
     @InjectMocks
     private TodoService todoService;
 
@@ -107,14 +121,31 @@ class TodoServiceTest {
         assertEquals(todo.getWeather(), todoSaveResponse.getWeather());
     }
 
+    @Test
+    void 일정_저장_시_날씨_조회가_insert보다_먼저_끝난다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "email@naver.com", UserRole.USER);
+        TodoSaveRequest request = new TodoSaveRequest("title", "content");
+        given(weatherClient.getTodayWeather()).willReturn("weather");
+        given(todoRepository.save(any(Todo.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        todoService.saveTodo(authUser, request);
+
+        // then
+        InOrder inOrder = inOrder(weatherClient, todoRepository);
+        inOrder.verify(weatherClient).getTodayWeather();
+        inOrder.verify(todoRepository).save(any(Todo.class));
+    }
+
     @Test
     void 일정_전체_조회() {
         // given
         int page = 1;
         int size = 10;
         Pageable pageable = PageRequest.of(page - 1, size);
-        Todo todo = new Todo("title", "content", "weather", new User("email", "pw", UserRole.USER));
-        Page<Todo> todos = new PageImpl<>(List.of(todo), pageable, 1);
+        TodoResponse todo = new TodoResponse(1L, "title", "content", "weather", 1L, "email", 0, 1, LocalDateTime.now(), LocalDateTime.now());
+        Page<TodoResponse> todos = new PageImpl<>(List.of(todo), pageable, 1);
 
         given(todoRepository.findAllByOrderByModifiedAtDesc(pageable)).willReturn(todos);
 
@@ -125,4 +156,106 @@ class TodoServiceTest {
         assertNotNull(findTodos);
         assertEquals(todos.getTotalElements(), findTodos.getTotalElements());
     }
-}
\ No newline at end of file
+
+    @Nested
+    class GetTodosByCursorTest {
+        @Test
+        void 첫_페이지를_조회하면_다음_커서를_돌려준다() {
+            // given
+            int size = 1;
+            LocalDateTime modifiedAt = LocalDateTime.of(2024, 9, 1, 12, 0, 0, 123456789);
+            TodoResponse todo = new TodoResponse(5L, "title", "content", "weather", 1L, "email", 0, 1, modifiedAt, modifiedAt);
+
+            given(todoRepository.findFirstSliceByOrderByModifiedAtDesc(PageRequest.of(0, size)))
+                    .willReturn(new SliceImpl<>(List.of(todo), PageRequest.of(0, size), true));
+            given(todoRepository.findSliceAfterCursor(modifiedAt, 5L, PageRequest.of(0, size)))
+                    .willReturn(new SliceImpl<>(List.of(), PageRequest.of(0, size), false));
+
+            // when
+            CursorResponse<TodoResponse> first = todoService.getTodosByCursor(null, size);
+            CursorResponse<TodoResponse> second = todoService.getTodosByCursor(first.getNextCursor(), size);
+
+            // then
+            assertEquals(1, first.getContent().size());
+            assertTrue(first.isHasNext());
+            assertNotNull(first.getNextCursor());
+            assertTrue(second.getContent().isEmpty());
+            assertFalse(second.isHasNext());
+            assertNull(second.getNextCursor());
+        }
+
+        @Test
+        void 잘못된_커서면_예외_발생() {
+            // when & then
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                    () -> todoService.getTodosByCursor("not-a-cursor", 10));
+            assertEquals("잘못된 cursor 입니다.", exception.getMessage());
+        }
+
+        @Test
+        void size_가_범위를_벗어나면_예외_발생() {
+            // when & then
+            assertThrows(InvalidRequestException.class, () -> todoService.getTodosByCursor(null, 0));
+            assertThrows(InvalidRequestException.class, () -> todoService.getTodosByCursor(null, 101));
+            verifyNoInteractions(todoRepository);
+        }
+
+        @Test
+        void size_가_경계값이면_조회한다() {
+            // given
+            given(todoRepository.findFirstSliceByOrderByModifiedAtDesc(any()))
+                    .willAnswer(invocation -> new SliceImpl<TodoResponse>(List.of(), invocation.getArgument(0), false));
+
+            // when & then
+            assertTrue(todoService.getTodosByCursor(null, 1).getContent().isEmpty());
+            assertTrue(todoService.getTodosByCursor(null, 100).getContent().isEmpty());
+            verify(todoRepository).findFirstSliceByOrderByModifiedAtDesc(PageRequest.of(0, 1));
+            verify(todoRepository).findFirstSliceByOrderByModifiedAtDesc(PageRequest.of(0, 100));
+        }
+    }
+
+    @Nested
+    class DeleteTodoTest {
+        @Test
+        void 일정이_없으면_예외_발생() {
+            // given
+            AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
+            given(todoRepository.findUserIdById(1L)).willReturn(Optional.empty());
+
+            // when & then
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                    () -> todoService.deleteTodo(authUser, 1L));
+            assertEquals("Todo not found", exception.getMessage());
+        }
+
+        @Test
+        void 작성자가_아니면_예외_발생() {
+            // given
+            AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
+            given(todoRepository.findUserIdById(1L)).willReturn(Optional.of(2L));
+
+            // when & then
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                    () -> todoService.deleteTodo(authUser, 1L));
+            assertEquals("일정을 만든 유저만 삭제할 수 있습니다.", exception.getMessage());
+            verifyNoInteractions(commentRepository, managerRepository);
+            verify(todoRepository, never()).deleteByIdInBulk(anyLong());
+        }
+
+        @Test
+        void 댓글과_담당자를_먼저_지우고_일정을_삭제() {
+            // given
+            AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
+            given(todoRepository.findUserIdById(1L)).willReturn(Optional.of(1L));
+
+            // when
+            todoService.deleteTodo(authUser, 1L);
+
+            // then
+            InOrder inOrder = inOrder(commentRepository, managerRepository, todoRepository);
+            inOrder.verify(commentRepository).deleteAllByTodoId(1L);
+            inOrder.verify(managerRepository).deleteAllByTodoId(1L);
+            inOrder.verify(todoRepository).deleteByIdInBulk(1L);
+        }
+    }
+}
@@ -15,17 +15,21 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.util.concurrent.CompletableFuture;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.doNothing;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(UserController.class)
@@ -68,12 +72,14 @@ class UserControllerTest {
         given(authUserArgumentResolver.supportsParameter(any())).willReturn(true);
         given(authUserArgumentResolver.resolveArgument(any(), any(), any(), any())).willReturn(authUser);
 
-        doNothing().when(userService).changePassword(anyLong(), any(UserChangePasswordRequest.class));
+        given(userService.changePassword(anyLong(), any(UserChangePasswordRequest.class))).willReturn(CompletableFuture.completedFuture(null));
 
         // when
-        ResultActions resultActions = mvc.perform(put("/users")
+        MvcResult mvcResult = mvc.perform(put("/users")
                 .content(objectMapper.writeValueAsString(request))
-                .contentType(MediaType.APPLICATION_JSON));
+                .contentType(MediaType.APPLICATION_JSON)
+        ).andExpect(request().asyncStarted()).andReturn();
+        ResultActions resultActions = mvc.perform(asyncDispatch(mvcResult));
 
         // then
         resultActions.andExpect(status().isOk());
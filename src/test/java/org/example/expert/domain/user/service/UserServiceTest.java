@@ -1,6 +1,6 @@
 package org.example.expert.domain.user.service;
 
-import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.PasswordHasher;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
@@ -14,15 +14,22 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -31,8 +38,10 @@ class UserServiceTest {
 
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private PasswordHasher passwordHasher;
     @Spy
-    private PasswordEncoder passwordEncoder;
+    private Executor taskExecutor = new SyncTaskExecutor();
     @InjectMocks
     private UserService userService;
 
@@ -76,39 +85,84 @@ class UserServiceTest {
             long userId = 1L;
             String oldPassword = "Aaaa1111*";
             String newPassword = "Aaaa2222*";
-            User user = new User("email", oldPassword, UserRole.USER);
+            User user = new User("email", "encodedOldPassword", UserRole.USER);
 
             UserChangePasswordRequest userChangePasswordRequest = new UserChangePasswordRequest(oldPassword, newPassword);
             given(userRepository.findById(userId)).willReturn(Optional.of(user));
 
-            given(passwordEncoder.matches(newPassword, user.getPassword())).willReturn(false);
-            given(passwordEncoder.matches(oldPassword, user.getPassword())).willReturn(true);
-            given(passwordEncoder.encode(userChangePasswordRequest.getNewPassword())).willReturn("encodedNewPassword");
+            given(passwordHasher.matches(newPassword, "encodedOldPassword")).willReturn(CompletableFuture.completedFuture(false));
+            given(passwordHasher.matches(oldPassword, "encodedOldPassword")).willReturn(CompletableFuture.completedFuture(true));
+            given(passwordHasher.encode(newPassword)).willReturn(CompletableFuture.completedFuture("encodedNewPassword"));
+            given(userRepository.updatePasswordIfUnchanged(userId, "encodedOldPassword", "encodedNewPassword")).willReturn(1);
 
             // when
-            userService.changePassword(userId, userChangePasswordRequest);
+            userService.changePassword(userId, userChangePasswordRequest).join();
 
             // then
             verify(userRepository, times(1)).findById(userId);
-            verify(passwordEncoder, times(2)).matches(anyString(), anyString());
-            verify(passwordEncoder, times(1)).encode(anyString());
-            assertEquals("encodedNewPassword", user.getPassword());
+            verify(passwordHasher, times(2)).matches(anyString(), anyString());
+            verify(passwordHasher, times(1)).encode(anyString());
+            // 저장은 해시 풀이 아닌 taskExecutor 에서 실행합니다.
+            verify(taskExecutor, times(1)).execute(any(Runnable.class));
+            verify(userRepository, times(1)).updatePasswordIfUnchanged(userId, "encodedOldPassword", "encodedNewPassword");
         }
 
         @Test
         void 같은_비밀번호로_변경시_예외_발생() {
             // given
             long userId = 1L;
-            User user = new User("email", passwordEncoder.encode("Aaaa1111*"), UserRole.USER);
+            User user = new User("email", "encodedPassword", UserRole.USER);
             UserChangePasswordRequest userChangePasswordRequest = new UserChangePasswordRequest("Aaaa1111*", "Aaaa1111*");
 
             given(userRepository.findById(userId)).willReturn(Optional.of(user));
+            given(passwordHasher.matches("Aaaa1111*", "encodedPassword")).willReturn(CompletableFuture.completedFuture(true));
+
+            // when
+            CompletionException exception = assertThrows(CompletionException.class, () -> userService.changePassword(userId, userChangePasswordRequest).join());
+
+            // then
+            assertInstanceOf(InvalidRequestException.class, exception.getCause());
+            assertEquals("새 비밀번호는 기존 비밀번호와 같을 수 없습니다.", exception.getCause().getMessage());
+            verify(passwordHasher, never()).encode(anyString());
+        }
+
+        @Test
+        void 기존_비밀번호가_틀리면_예외_발생() {
+            // given
+            long userId = 1L;
+            User user = new User("email", "encodedPassword", UserRole.USER);
+            UserChangePasswordRequest userChangePasswordRequest = new UserChangePasswordRequest("Wrong1111*", "Aaaa2222*");
+
+            given(userRepository.findById(userId)).willReturn(Optional.of(user));
+            given(passwordHasher.matches("Aaaa2222*", "encodedPassword")).willReturn(CompletableFuture.completedFuture(false));
+            given(passwordHasher.matches("Wrong1111*", "encodedPassword")).willReturn(CompletableFuture.completedFuture(false));
+
+            // when
+            CompletionException exception = assertThrows(CompletionException.class, () -> userService.changePassword(userId, userChangePasswordRequest).join());
+
+            // then
+            assertEquals("잘못된 비밀번호입니다.", exception.getCause().getMessage());
+            verify(userRepository, never()).updatePasswordIfUnchanged(anyLong(), anyString(), anyString());
+        }
+
+        @Test
+        void 해시하는_동안_비밀번호가_바뀌었으면_덮어쓰지_않고_예외_발생() {
+            // given
+            long userId = 1L;
+            User user = new User("email", "encodedOldPassword", UserRole.USER);
+            UserChangePasswordRequest userChangePasswordRequest = new UserChangePasswordRequest("Aaaa1111*", "Aaaa2222*");
+
+            given(userRepository.findById(userId)).willReturn(Optional.of(user));
+            given(passwordHasher.matches("Aaaa2222*", "encodedOldPassword")).willReturn(CompletableFuture.completedFuture(false));
+            given(passwordHasher.matches("Aaaa1111*", "encodedOldPassword")).willReturn(CompletableFuture.completedFuture(true));
+            given(passwordHasher.encode("Aaaa2222*")).willReturn(CompletableFuture.completedFuture("encodedNewPassword"));
+            given(userRepository.updatePasswordIfUnchanged(userId, "encodedOldPassword", "encodedNewPassword")).willReturn(0);
 
             // when
-            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> userService.changePassword(userId, userChangePasswordRequest));
+            CompletionException exception = assertThrows(CompletionException.class, () -> userService.changePassword(userId, userChangePasswordRequest).join());
 
             // then
-            assertEquals("새 비밀번호는 기존 비밀번호와 같을 수 없습니다.", exception.getMessage());
+            assertEquals("비밀번호가 그사이 변경되었습니다. 다시 시도해주세요.", exception.getCause().getMessage());
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package org.example.expert.support;
+
+import org.example.expert.config.QueryCounter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 서비스 메서드가 실행한 SQL 수를 정확히 확인합니다. PersistenceConfig 를 Import 한 JPA 테스트에서 사용하세요.
+// 쓰기 지연된 INSERT/UPDATE 도 세려면 action 안에서 entityManager.flush() 까지 호출해야 합니다.
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    public static void assertQueryCount(int expected, Runnable action) {
+        QueryCounter.start();
+        int actual;
+        try {
+            action.run();
+        } finally {
+            actual = QueryCounter.stop();
+        }
+        assertEquals(expected, actual, "실행한 SQL 수");
+    }
+}